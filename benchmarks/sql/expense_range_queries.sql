@@ -0,0 +1,63 @@
+-- Seeds a 10M-row expenses table on a scratch PostgreSQL database migrated by Flyway and prints
+-- the plans of the hot expense queries. Run with:
+--   psql -d meajuda_bench -f benchmarks/sql/expense_range_queries.sql
+-- Each query selects the ExpenseView projection the list endpoints read. Those columns are not
+-- all in the index, so expect an Index Scan Backward on idx_expenses_user_date or
+-- idx_expenses_user_category_date that visits the heap only for the returned rows, with no Seq
+-- Scan and no Sort node. Record the plans and timings from your own run; none are checked in.
+
+\timing on
+
+insert into users (name, email, email_verified)
+select 'Bench user ' || u, 'bench-' || u || '@example.com', true
+from generate_series(1, 10000) as u;
+
+insert into expenses (id, description, amount, expense_date, category, user_id, payment_method, is_recurring)
+select nextval('expenses_seq'),
+       'Expense ' || g,
+       round((random() * 500)::numeric, 2),
+       timestamp '2015-01-01' + (random() * interval '10 years'),
+       (array['Food', 'Transport', 'Housing', 'Health', 'Leisure'])[1 + (g % 5)],
+       (select min(id) from users) + (g % 10000),
+       (array['card', 'cash', 'pix'])[1 + (g % 3)],
+       false
+from generate_series(1, 10000000) as g;
+
+vacuum analyze expenses;
+
+-- First keyset page
+explain (analyze, buffers)
+select id, description, amount, expense_date, category, budget_id, payment_method, is_recurring,
+       recurrence_period
+from expenses
+where user_id = (select min(id) from users) + 42
+order by expense_date desc, id desc
+limit 51;
+
+-- Following keyset page
+explain (analyze, buffers)
+select id, description, amount, expense_date, category, budget_id, payment_method, is_recurring,
+       recurrence_period
+from expenses
+where user_id = (select min(id) from users) + 42
+  and (expense_date < timestamp '2020-06-01' or (expense_date = timestamp '2020-06-01' and id < 5000000))
+order by expense_date desc, id desc
+limit 51;
+
+-- Date range listing
+explain (analyze, buffers)
+select id, description, amount, expense_date, category, budget_id, payment_method, is_recurring,
+       recurrence_period
+from expenses
+where user_id = (select min(id) from users) + 42
+  and expense_date between timestamp '2023-01-01' and timestamp '2023-12-31'
+order by expense_date desc, id desc;
+
+-- Category listing
+explain (analyze, buffers)
+select id, description, amount, expense_date, category, budget_id, payment_method, is_recurring,
+       recurrence_period
+from expenses
+where user_id = (select min(id) from users) + 42 and category = 'Food'
+order by expense_date desc, id desc
+limit 51;
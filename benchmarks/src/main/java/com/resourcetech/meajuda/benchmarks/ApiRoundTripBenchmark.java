@@ -0,0 +1,108 @@
+package com.resourcetech.meajuda.benchmarks;
+
+import com.resourcetech.meajuda.MeAjudaApplication;
+import com.resourcetech.meajuda.application.dtos.ExpenseDto;
+import com.resourcetech.meajuda.application.services.ExpenseImportService;
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import com.resourcetech.meajuda.infrastructure.security.JwtTokenProvider;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Boots the application on a random port against a fresh in-memory H2 database, seeds one user
+ * with {@link #expenses} expenses through the bulk import path and measures authenticated HTTP
+ * round-trips through the full filter chain. Rate limiting is disabled: every thread shares the
+ * one seeded user and would otherwise be throttled with 429s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class ApiRoundTripBenchmark {
+
+    @Param({"10000"})
+    public int expenses;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest firstPage;
+    private HttpRequest monthlySummary;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(MeAjudaApplication.class,
+                "--server.port=0",
+                "--app.rate-limit.enabled=false",
+                "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN");
+
+        var user = new User();
+        user.setName("Bench User");
+        user.setEmail("bench@example.com");
+        user = context.getBean(UserRepository.class).save(user);
+
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 8, 0);
+        List<ExpenseDto> rows = IntStream.range(0, expenses)
+                .mapToObj(i -> new ExpenseDto(null, "Expense " + i, new BigDecimal("10.00").add(BigDecimal.valueOf(i % 90)),
+                        start.plusHours(i * 3L), i % 2 == 0 ? "Food" : "Transport", null, "card", false, null))
+                .toList();
+        context.getBean(ExpenseImportService.class).importExpenses(user.getId(), rows.iterator());
+
+        var principal = UserPrincipal.create(user);
+        String token = context.getBean(JwtTokenProvider.class)
+                .generateToken(UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newHttpClient();
+        firstPage = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/expenses?limit=50"))
+                .header("Authorization", "Bearer " + token)
+                .build();
+        monthlySummary = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                        + "/api/expenses/summary/by-month?startDate=2020-01-01T00:00:00&endDate=2030-01-01T00:00:00"))
+                .header("Authorization", "Bearer " + token)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getFirstExpensePage() throws Exception {
+        return send(firstPage);
+    }
+
+    @Benchmark
+    public int getMonthlySummary() throws Exception {
+        return send(monthlySummary);
+    }
+
+    private int send(HttpRequest request) throws Exception {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,54 @@
+package com.resourcetech.meajuda.benchmarks;
+
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import com.resourcetech.meajuda.infrastructure.security.JwtTokenProvider;
+import com.resourcetech.meajuda.infrastructure.security.SecurityEventLog;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        var appProperties = new AppProperties();
+        appProperties.getAuth().setJwtSecret("benchmark-secret-benchmark-secret-benchmark-secret");
+        appProperties.getAuth().setJwtExpirationMs(3_600_000);
+        tokenProvider = new JwtTokenProvider(appProperties, new SimpleMeterRegistry(),
+                new SecurityEventLog(appProperties));
+
+        var principal = new UserPrincipal(42L, "bench@example.com", null, List.of());
+        authentication = UsernamePasswordAuthenticationToken.authenticated(principal, null, List.of());
+        token = tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public Long resolveUserIdCached() {
+        return tokenProvider.resolveUserId(token);
+    }
+
+    @Benchmark
+    public Long parseAndVerify() {
+        return tokenProvider.getUserIdFromToken(token);
+    }
+}
@@ -0,0 +1,52 @@
+package com.resourcetech.meajuda.benchmarks;
+
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import com.resourcetech.meajuda.infrastructure.security.BoundedPasswordEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logins per second per core: one benchmark thread verifying a password through the
+ * application's encoder at each bcrypt cost. Multiply by the hashing thread count to size
+ * {@code app.auth.hashing-threads} for an expected login rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    @Param({"10", "11", "12"})
+    private int bcryptStrength;
+
+    private BoundedPasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        var appProperties = new AppProperties();
+        appProperties.getAuth().setBcryptStrength(bcryptStrength);
+        appProperties.getAuth().setHashingThreads(1);
+        passwordEncoder = BoundedPasswordEncoder.bcrypt(appProperties.getAuth());
+        encodedPassword = passwordEncoder.encode("correct horse battery staple");
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordEncoder.close();
+    }
+
+    @Benchmark
+    public boolean login() {
+        return passwordEncoder.matches("correct horse battery staple", encodedPassword);
+    }
+
+    @Benchmark
+    public String signup() {
+        return passwordEncoder.encode("correct horse battery staple");
+    }
+}
@@ -0,0 +1,96 @@
+package com.resourcetech.meajuda.benchmarks.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load generator for comparing request execution modes. Each of {@code clients}
+ * virtual threads repeatedly calls {@code url} with the given bearer token for {@code seconds}
+ * seconds. At the end it prints throughput, error count and p50/p99/p999 latency.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.resourcetech.meajuda.benchmarks.load.ExpenseLoadTest \
+ *     http://localhost:8080/api/expenses?limit=50 $TOKEN 5000 60
+ * </pre>
+ *
+ * Run it once against an instance started with {@code APP_VIRTUAL_THREADS=false} and once with
+ * {@code APP_VIRTUAL_THREADS=true}. Start the instance with {@code APP_RATE_LIMIT_ENABLED=false}
+ * (or {@code --app.rate-limit.enabled=false}); all clients share one token, so the per-user rate
+ * limit would otherwise turn most requests into 429s.
+ */
+public final class ExpenseLoadTest {
+
+    private ExpenseLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("usage: ExpenseLoadTest <url> <token> [clients=5000] [seconds=60]");
+            System.exit(1);
+        }
+        URI uri = URI.create(args[0]);
+        String token = args[1];
+        int clients = args.length > 2 ? Integer.parseInt(args[2]) : 5000;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 60;
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+        var latencies = new ConcurrentLinkedQueue<long[]>();
+        var errors = new AtomicLong();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception ex) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - start;
+                    }
+                    latencies.add(Arrays.copyOf(samples, count));
+                });
+            }
+        }
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("clients=%d duration=%ds requests=%d errors=%d throughput=%.1f req/s%n",
+                clients, seconds, all.length, errors.get(), all.length / (double) seconds);
+        if (all.length > 0) {
+            System.out.printf("p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms%n",
+                    percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999), all[all.length - 1] / 1e6);
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
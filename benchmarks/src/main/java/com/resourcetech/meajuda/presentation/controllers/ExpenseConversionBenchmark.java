@@ -0,0 +1,65 @@
+package com.resourcetech.meajuda.presentation.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resourcetech.meajuda.application.dtos.ExpenseDto;
+import com.resourcetech.meajuda.domain.entities.Budget;
+import com.resourcetech.meajuda.domain.entities.Expense;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lives in the controller package so it can call the package-private static
+ * {@link ExpenseController#convertToDto(Expense)} directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpenseConversionBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Expense> expenses;
+    private List<ExpenseDto> dtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        var budget = new Budget();
+        budget.setId(7L);
+        expenses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            var expense = new Expense();
+            expense.setId((long) i);
+            expense.setDescription("Expense " + i);
+            expense.setAmount(new BigDecimal("12.34").add(BigDecimal.valueOf(i)));
+            expense.setExpenseDate(LocalDateTime.of(2024, 1, 1, 12, 0).plusHours(i));
+            expense.setCategory(i % 2 == 0 ? "Food" : "Transport");
+            expense.setPaymentMethod("card");
+            expense.setBudget(i % 3 == 0 ? budget : null);
+            expenses.add(expense);
+        }
+        dtos = convertToDto();
+    }
+
+    @Benchmark
+    public List<ExpenseDto> convertToDto() {
+        return expenses.stream().map(ExpenseController::convertToDto).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeDtos() throws Exception {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+}
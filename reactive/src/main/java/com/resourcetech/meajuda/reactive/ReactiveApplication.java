@@ -0,0 +1,27 @@
+package com.resourcetech.meajuda.reactive;
+
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import com.resourcetech.meajuda.infrastructure.security.JwtTokenProvider;
+import com.resourcetech.meajuda.infrastructure.security.SecurityEventLog;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * WebFlux and R2DBC deployment of the API. It serves the same tables as the servlet application
+ * and reuses its DTOs, configuration properties and token handling; only this package is
+ * scanned, so none of the servlet or JPA components are created. Configuration is read from
+ * {@code reactive.yml}.
+ */
+@SpringBootApplication
+@EnableScheduling
+@Import({AppProperties.class, JwtTokenProvider.class, SecurityEventLog.class})
+public class ReactiveApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveApplication.class)
+                .properties("spring.config.name=reactive")
+                .run(args);
+    }
+}
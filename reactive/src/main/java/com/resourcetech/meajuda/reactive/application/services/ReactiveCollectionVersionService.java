@@ -0,0 +1,101 @@
+package com.resourcetech.meajuda.reactive.application.services;
+
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Reactive counterpart of {@code CollectionVersionService}: bumps the per-user collection
+ * versions and change sequence with the same statements, so sync cursors and ETags stay valid
+ * whichever stack wrote the change. The bump is an atomic upsert that locks the user's row until
+ * commit.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ReactiveCollectionVersionService {
+
+    private final DatabaseClient databaseClient;
+    private final boolean postgres;
+
+    public ReactiveCollectionVersionService(DatabaseClient databaseClient, ConnectionFactory connectionFactory) {
+        this.databaseClient = databaseClient;
+        this.postgres = connectionFactory.getMetadata().getName().toLowerCase(Locale.ROOT).contains("postgres");
+    }
+
+    @Transactional
+    public Mono<Void> create(Long userId) {
+        return databaseClient
+                .sql("""
+                        insert into collection_versions
+                            (user_id, expenses_version, budgets_version, goals_version, change_seq)
+                        values (:userId, 0, 0, 0, 0)
+                        """)
+                .bind("userId", userId)
+                .then();
+    }
+
+    /**
+     * Bumps the given collections and returns the user's new change sequence.
+     */
+    public Mono<Long> bump(Long userId, VersionedCollection... collections) {
+        List<VersionedCollection> distinct = Arrays.stream(collections).distinct().toList();
+        String table = postgres ? "collection_versions." : "v.";
+        String assignments = distinct.stream()
+                .map(collection -> collection.getColumn() + " = " + table + collection.getColumn() + " + 1, ")
+                .collect(Collectors.joining());
+        String upsert = postgres
+                ? """
+                  insert into collection_versions
+                      (user_id, expenses_version, budgets_version, goals_version, change_seq)
+                  values (:userId, :expenses, :budgets, :goals, 1)
+                  on conflict (user_id) do update set %schange_seq = collection_versions.change_seq + 1
+                  """.formatted(assignments)
+                : """
+                  merge into collection_versions v
+                  using (select cast(:userId as bigint) as user_id) d on v.user_id = d.user_id
+                  when matched then update set %schange_seq = v.change_seq + 1
+                  when not matched then insert
+                      (user_id, expenses_version, budgets_version, goals_version, change_seq)
+                      values (d.user_id, :expenses, :budgets, :goals, 1)
+                  """.formatted(assignments);
+        return databaseClient.sql(upsert)
+                .bind("userId", userId)
+                .bind("expenses", distinct.contains(VersionedCollection.EXPENSES) ? 1L : 0L)
+                .bind("budgets", distinct.contains(VersionedCollection.BUDGETS) ? 1L : 0L)
+                .bind("goals", distinct.contains(VersionedCollection.GOALS) ? 1L : 0L)
+                .then()
+                .then(changeSeqOf(userId));
+    }
+
+    public Mono<Void> tombstone(Long userId, VersionedCollection collection, Long entityId, long changeSeq) {
+        return databaseClient
+                .sql("""
+                        insert into sync_tombstones (user_id, collection, entity_id, change_seq, deleted_at)
+                        values (:userId, :collection, :entityId, :changeSeq, :deletedAt)
+                        """)
+                .bind("userId", userId)
+                .bind("collection", collection.name())
+                .bind("entityId", entityId)
+                .bind("changeSeq", changeSeq)
+                .bind("deletedAt", LocalDateTime.now())
+                .then();
+    }
+
+    private Mono<Long> changeSeqOf(Long userId) {
+        return databaseClient
+                .sql("select change_seq from collection_versions where user_id = :userId")
+                .bind("userId", userId)
+                .map(row -> row.get("change_seq", Long.class))
+                .one();
+    }
+}
@@ -0,0 +1,203 @@
+package com.resourcetech.meajuda.reactive.application.services;
+
+import com.resourcetech.meajuda.application.dtos.MonthlyCategoryTotalDto;
+import com.resourcetech.meajuda.reactive.domain.repositories.BudgetRowRepository;
+import com.resourcetech.meajuda.reactive.domain.rows.ExpenseRow;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Everything an expense write keeps in step besides the expense row itself: budget totals, the
+ * monthly rollup buckets and the alert outbox. Mirrors the servlet stack statement for statement
+ * and runs inside the caller's transaction.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ReactiveExpenseLedger {
+
+    private final DatabaseClient databaseClient;
+    private final BudgetRowRepository budgetRepository;
+    private final boolean postgres;
+
+    public ReactiveExpenseLedger(DatabaseClient databaseClient, BudgetRowRepository budgetRepository,
+                                 ConnectionFactory connectionFactory) {
+        this.databaseClient = databaseClient;
+        this.budgetRepository = budgetRepository;
+        this.postgres = connectionFactory.getMetadata().getName().toLowerCase(Locale.ROOT).contains("postgres");
+    }
+
+    /**
+     * Next value of a pooled sequence. Hibernate treats each value as the top of a block of
+     * ids, so using the value itself as an id never collides with ids the servlet stack assigns.
+     */
+    public Mono<Long> nextId(String sequence) {
+        String nextValue = postgres ? "nextval('" + sequence + "')" : "next value for " + sequence;
+        return databaseClient.sql("select " + nextValue)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Moves the expense amount between budget totals. Crediting the target budget is also its
+     * ownership check: the update matches no row when the budget belongs to another user.
+     */
+    public Mono<Void> moveBudgetSpent(Long userId, long changeSeq,
+                                      Long fromBudgetId, BigDecimal fromAmount, Long toBudgetId, BigDecimal toAmount) {
+        if (Objects.equals(fromBudgetId, toBudgetId)) {
+            return applyBudgetDelta(userId, changeSeq, toBudgetId, toAmount.subtract(fromAmount));
+        }
+        Mono<Void> credit = toBudgetId == null ? Mono.empty() : budgetRepository
+                .addToCurrentSpent(toBudgetId, userId, toAmount, changeSeq)
+                .filter(updated -> updated > 0)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Budget not found")))
+                .then();
+        return applyBudgetDelta(userId, changeSeq, fromBudgetId, fromAmount.negate()).then(credit);
+    }
+
+    public Mono<Void> applyBudgetDelta(Long userId, long changeSeq, Long budgetId, BigDecimal delta) {
+        if (budgetId == null || delta.signum() == 0) {
+            return Mono.empty();
+        }
+        return budgetRepository.addToCurrentSpent(budgetId, userId, delta, changeSeq).then();
+    }
+
+    public Mono<Void> addToRollup(Long userId, LocalDateTime expenseDate, String category, BigDecimal amount) {
+        return applyRollup(userId, yearMonthOf(expenseDate), category, amount, 1);
+    }
+
+    public Mono<Void> removeFromRollup(Long userId, LocalDateTime expenseDate, String category, BigDecimal amount) {
+        return applyRollup(userId, yearMonthOf(expenseDate), category, amount.negate(), -1);
+    }
+
+    public Mono<Void> moveInRollup(Long userId,
+                                   LocalDateTime fromDate, String fromCategory, BigDecimal fromAmount,
+                                   LocalDateTime toDate, String toCategory, BigDecimal toAmount) {
+        String fromMonth = yearMonthOf(fromDate);
+        String toMonth = yearMonthOf(toDate);
+        if (fromMonth.equals(toMonth) && Objects.equals(fromCategory, toCategory)) {
+            return applyRollup(userId, toMonth, toCategory, toAmount.subtract(fromAmount), 0);
+        }
+        return applyRollup(userId, fromMonth, fromCategory, fromAmount.negate(), -1)
+                .then(applyRollup(userId, toMonth, toCategory, toAmount, 1));
+    }
+
+    /**
+     * Appends the expense to the alert outbox when it is booked against a budget. The outbox is
+     * drained by the servlet application's dispatcher on its next poll.
+     */
+    public Mono<Void> recordOutbox(ExpenseRow expense) {
+        return insertOutbox(expense.getUserId(), expense.getId(), expense.getBudgetId(), expense.getAmount());
+    }
+
+    /**
+     * Appends a negative entry for an expense taken off a budget by an edit or a deletion, so
+     * the dispatcher re-evaluates the budget's thresholds.
+     */
+    public Mono<Void> recordOutboxRemoval(Long userId, Long expenseId, Long budgetId, BigDecimal amount) {
+        return insertOutbox(userId, expenseId, budgetId, amount.negate());
+    }
+
+    /**
+     * Outbox entries for an edited expense: moving it to another budget takes it off the old one
+     * and books it on the new one; a new amount on the same budget is booked again.
+     */
+    public Mono<Void> recordOutboxChange(Long previousBudgetId, BigDecimal previousAmount, ExpenseRow expense) {
+        if (!Objects.equals(previousBudgetId, expense.getBudgetId())) {
+            return recordOutboxRemoval(expense.getUserId(), expense.getId(), previousBudgetId, previousAmount)
+                    .then(recordOutbox(expense));
+        }
+        if (previousAmount.compareTo(expense.getAmount()) != 0) {
+            return recordOutbox(expense);
+        }
+        return Mono.empty();
+    }
+
+    private Mono<Void> insertOutbox(Long userId, Long expenseId, Long budgetId, BigDecimal amount) {
+        if (budgetId == null) {
+            return Mono.empty();
+        }
+        return nextId("expense_outbox_seq").flatMap(id -> databaseClient
+                .sql("""
+                        insert into expense_outbox (id, user_id, expense_id, budget_id, amount, recorded_at)
+                        values (:id, :userId, :expenseId, :budgetId, :amount, :recordedAt)
+                        """)
+                .bind("id", id)
+                .bind("userId", userId)
+                .bind("expenseId", expenseId)
+                .bind("budgetId", budgetId)
+                .bind("amount", amount)
+                .bind("recordedAt", LocalDateTime.now())
+                .then());
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Flux<MonthlyCategoryTotalDto> findTrend(Long userId, String fromMonth, String toMonth) {
+        return databaseClient
+                .sql("""
+                        select year_month, category, total, expense_count
+                        from expense_monthly_rollup
+                        where user_id = :userId and year_month between :fromMonth and :toMonth and expense_count > 0
+                        order by year_month, category
+                        """)
+                .bind("userId", userId)
+                .bind("fromMonth", fromMonth)
+                .bind("toMonth", toMonth)
+                .map(row -> new MonthlyCategoryTotalDto(
+                        row.get("year_month", String.class),
+                        row.get("category", String.class),
+                        row.get("total", BigDecimal.class),
+                        row.get("expense_count", Long.class)))
+                .all();
+    }
+
+    /**
+     * One atomic upsert per bucket, so concurrent first writes to a bucket cannot both insert.
+     */
+    private Mono<Void> applyRollup(Long userId, String yearMonth, String category, BigDecimal amount, long count) {
+        if (amount.signum() == 0 && count == 0) {
+            return Mono.empty();
+        }
+        String upsert = postgres
+                ? """
+                  insert into expense_monthly_rollup (user_id, year_month, category, total, expense_count)
+                  values (:userId, :yearMonth, :category, :amount, :count)
+                  on conflict (user_id, year_month, category) do update
+                  set total = expense_monthly_rollup.total + excluded.total,
+                      expense_count = expense_monthly_rollup.expense_count + excluded.expense_count
+                  """
+                : """
+                  merge into expense_monthly_rollup r
+                  using (select cast(:userId as bigint) as user_id, cast(:yearMonth as varchar(7)) as year_month,
+                                cast(:category as varchar(255)) as category, cast(:amount as numeric(38, 2)) as total,
+                                cast(:count as bigint) as expense_count) d
+                  on r.user_id = d.user_id and r.year_month = d.year_month and r.category = d.category
+                  when matched then update set total = r.total + d.total, expense_count = r.expense_count + d.expense_count
+                  when not matched then insert (user_id, year_month, category, total, expense_count)
+                      values (d.user_id, d.year_month, d.category, d.total, d.expense_count)
+                  """;
+        return databaseClient.sql(upsert)
+                .bind("userId", userId)
+                .bind("yearMonth", yearMonth)
+                .bind("category", category)
+                .bind("amount", amount)
+                .bind("count", count)
+                .then();
+    }
+
+    private static String yearMonthOf(LocalDateTime date) {
+        return YearMonth.from(date).toString();
+    }
+}
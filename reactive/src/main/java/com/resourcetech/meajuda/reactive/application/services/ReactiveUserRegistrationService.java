@@ -0,0 +1,31 @@
+package com.resourcetech.meajuda.reactive.application.services;
+
+import com.resourcetech.meajuda.reactive.domain.repositories.UserRowRepository;
+import com.resourcetech.meajuda.reactive.domain.rows.UserRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@code UserRegistrationService}: inserts the user and their collection
+ * versions row in one transaction. Callers hash passwords before subscribing.
+ */
+@Service
+public class ReactiveUserRegistrationService {
+
+    private final UserRowRepository userRepository;
+    private final ReactiveCollectionVersionService collectionVersionService;
+
+    public ReactiveUserRegistrationService(
+            UserRowRepository userRepository,
+            ReactiveCollectionVersionService collectionVersionService) {
+        this.userRepository = userRepository;
+        this.collectionVersionService = collectionVersionService;
+    }
+
+    @Transactional
+    public Mono<UserRow> register(UserRow user) {
+        return userRepository.save(user)
+                .flatMap(saved -> collectionVersionService.create(saved.getId()).thenReturn(saved));
+    }
+}
@@ -0,0 +1,53 @@
+package com.resourcetech.meajuda.reactive.domain.repositories;
+
+import com.resourcetech.meajuda.application.dtos.BudgetUtilisationDto;
+import com.resourcetech.meajuda.reactive.domain.rows.BudgetRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface BudgetRowRepository extends R2dbcRepository<BudgetRow, Long> {
+    Flux<BudgetRow> findByUserIdOrderById(Long userId);
+    Mono<BudgetRow> findByIdAndUserId(Long id, Long userId);
+
+    @Query("""
+            select b.id, b.name, b.category, b.amount, b.start_date, b.end_date,
+                coalesce(sum(e.amount), 0) as spent,
+                b.amount - coalesce(sum(e.amount), 0) as remaining,
+                count(e.id) as expense_count
+            from budgets b
+            left join expenses e on e.budget_id = b.id and e.posted = true
+                and (b.start_date is null or cast(e.expense_date as date) >= b.start_date)
+                and (b.end_date is null or cast(e.expense_date as date) <= b.end_date)
+            where b.user_id = :userId
+            group by b.id, b.name, b.category, b.amount, b.start_date, b.end_date
+            order by b.id
+            """)
+    Flux<BudgetUtilisationDto> findUtilisationByUserId(Long userId);
+
+    @Modifying
+    @Query("""
+            update budgets
+            set name = :name, amount = :amount, category = :category,
+                start_date = :startDate, end_date = :endDate, change_seq = :changeSeq
+            where id = :id and user_id = :userId
+            """)
+    Mono<Integer> updateDetails(Long id, Long userId, String name, BigDecimal amount, String category,
+                                LocalDate startDate, LocalDate endDate, long changeSeq);
+
+    @Modifying
+    @Query("delete from budgets where id = :id and user_id = :userId")
+    Mono<Integer> deleteByIdAndUserId(Long id, Long userId);
+
+    @Modifying
+    @Query("""
+            update budgets set current_spent = coalesce(current_spent, 0) + :delta, change_seq = :changeSeq
+            where id = :budgetId and user_id = :userId
+            """)
+    Mono<Integer> addToCurrentSpent(Long budgetId, Long userId, BigDecimal delta, long changeSeq);
+}
@@ -0,0 +1,17 @@
+package com.resourcetech.meajuda.reactive.domain.repositories;
+
+import com.resourcetech.meajuda.reactive.domain.rows.ExpenseRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ExpenseRowRepository extends R2dbcRepository<ExpenseRow, Long> {
+    Mono<ExpenseRow> findByIdAndUserId(Long id, Long userId);
+    Flux<ExpenseRow> findByUserIdOrderByExpenseDateDescIdDesc(Long userId);
+
+    @Modifying
+    @Query("delete from expenses where id = :id and user_id = :userId")
+    Mono<Integer> deleteByIdAndUserId(Long id, Long userId);
+}
@@ -0,0 +1,19 @@
+package com.resourcetech.meajuda.reactive.domain.repositories;
+
+import com.resourcetech.meajuda.domain.entities.GoalStatus;
+import com.resourcetech.meajuda.reactive.domain.rows.FinancialGoalRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface FinancialGoalRowRepository extends R2dbcRepository<FinancialGoalRow, Long> {
+    Flux<FinancialGoalRow> findByUserIdOrderById(Long userId);
+    Flux<FinancialGoalRow> findByUserIdAndStatusOrderById(Long userId, GoalStatus status);
+    Mono<FinancialGoalRow> findByIdAndUserId(Long id, Long userId);
+
+    @Modifying
+    @Query("delete from financial_goals where id = :id and user_id = :userId")
+    Mono<Integer> deleteByIdAndUserId(Long id, Long userId);
+}
@@ -0,0 +1,16 @@
+package com.resourcetech.meajuda.reactive.domain.repositories;
+
+import com.resourcetech.meajuda.reactive.domain.rows.UserRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+public interface UserRowRepository extends R2dbcRepository<UserRow, Long> {
+    Mono<UserRow> findByEmail(String email);
+    Mono<Boolean> existsByEmail(String email);
+
+    @Modifying
+    @Query("update users set password = :password where id = :id")
+    Mono<Integer> updatePassword(Long id, String password);
+}
@@ -0,0 +1,39 @@
+package com.resourcetech.meajuda.reactive.domain.rows;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Budget columns owned by the API. {@code current_spent} and {@code alert_level} are maintained
+ * by targeted updates and are only written here when the row is first inserted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("budgets")
+public class BudgetRow {
+    @Id
+    private Long id;
+
+    private String name;
+
+    private BigDecimal amount;
+
+    private String category;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private BigDecimal currentSpent;
+
+    private Long userId;
+
+    private long changeSeq;
+}
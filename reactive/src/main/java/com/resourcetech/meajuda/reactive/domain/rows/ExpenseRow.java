@@ -0,0 +1,49 @@
+package com.resourcetech.meajuda.reactive.domain.rows;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Expense row. Ids come from {@code expenses_seq} and are assigned before the insert, so rows
+ * are written through {@code R2dbcEntityTemplate.insert} rather than {@code save}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("expenses")
+public class ExpenseRow {
+    @Id
+    private Long id;
+
+    private String description;
+
+    private BigDecimal amount;
+
+    private LocalDateTime expenseDate;
+
+    private String category;
+
+    private String paymentMethod;
+
+    @Column("is_recurring")
+    private boolean recurring;
+
+    private String recurrencePeriod;
+
+    private LocalDateTime nextOccurrenceDate;
+
+    private boolean posted = true;
+
+    private Long budgetId;
+
+    private Long userId;
+
+    private long changeSeq;
+}
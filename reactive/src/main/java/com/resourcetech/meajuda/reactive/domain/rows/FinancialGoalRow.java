@@ -0,0 +1,36 @@
+package com.resourcetech.meajuda.reactive.domain.rows;
+
+import com.resourcetech.meajuda.domain.entities.GoalStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("financial_goals")
+public class FinancialGoalRow {
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private BigDecimal targetAmount;
+
+    private BigDecimal currentAmount;
+
+    private LocalDate targetDate;
+
+    private GoalStatus status;
+
+    private Long userId;
+
+    private long changeSeq;
+}
@@ -0,0 +1,34 @@
+package com.resourcetech.meajuda.reactive.domain.rows;
+
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("users")
+public class UserRow {
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String email;
+
+    private String password;
+
+    private String authProvider;
+
+    private boolean emailVerified;
+
+    public UserPrincipal toPrincipal() {
+        return new UserPrincipal(id, email, password, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}
@@ -0,0 +1,37 @@
+package com.resourcetech.meajuda.reactive.infrastructure.security;
+
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import com.resourcetech.meajuda.reactive.domain.repositories.UserRowRepository;
+import com.resourcetech.meajuda.reactive.domain.rows.UserRow;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsPasswordService;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Loads users by email for login and stores rehashed passwords when a login succeeds against an
+ * outdated hash, like {@code CustomUserDetailsService} does for the servlet stack.
+ */
+@Service
+public class ReactiveCustomUserDetailsService implements ReactiveUserDetailsService, ReactiveUserDetailsPasswordService {
+
+    private final UserRowRepository userRepository;
+
+    public ReactiveCustomUserDetailsService(UserRowRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Mono<UserDetails> findByUsername(String email) {
+        return userRepository.findByEmail(email).map(UserRow::toPrincipal);
+    }
+
+    @Override
+    public Mono<UserDetails> updatePassword(UserDetails user, String newPassword) {
+        var principal = (UserPrincipal) user;
+        return userRepository.updatePassword(principal.getId(), newPassword)
+                .thenReturn(new UserPrincipal(principal.getId(), principal.getUsername(), newPassword,
+                        principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,60 @@
+package com.resourcetech.meajuda.reactive.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import com.resourcetech.meajuda.infrastructure.security.JwtTokenProvider;
+import com.resourcetech.meajuda.infrastructure.security.SecurityEventLog;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import com.resourcetech.meajuda.reactive.domain.repositories.UserRowRepository;
+import com.resourcetech.meajuda.reactive.domain.rows.UserRow;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Authenticates bearer tokens. The token is verified by {@link JwtTokenProvider}, which answers
+ * repeat tokens from its cache, and the principal is loaded through an async cache backed by a
+ * non-blocking user lookup, so no request thread ever waits on the database here. Invalid tokens
+ * and unknown users fail with {@link BadCredentialsException}; the bearer filter's failure
+ * handler then continues the request unauthenticated, as on the servlet stack.
+ */
+public class ReactiveJwtAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final JwtTokenProvider tokenProvider;
+    private final UserRowRepository userRepository;
+    private final SecurityEventLog securityEventLog;
+    private final AsyncCache<Long, UserPrincipal> principals;
+
+    public ReactiveJwtAuthenticationManager(JwtTokenProvider tokenProvider, UserRowRepository userRepository,
+                                            SecurityEventLog securityEventLog, AppProperties appProperties) {
+        this.tokenProvider = tokenProvider;
+        this.userRepository = userRepository;
+        this.securityEventLog = securityEventLog;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(appProperties.getAuth().getPrincipalCacheMaxSize())
+                .expireAfterWrite(Duration.ofMillis(appProperties.getAuth().getPrincipalCacheTtlMs()))
+                .buildAsync();
+    }
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        Long userId = tokenProvider.resolveUserId((String) authentication.getCredentials());
+        if (userId == null) {
+            return Mono.error(new BadCredentialsException("Invalid token"));
+        }
+        return Mono.fromFuture(() -> principals.get(userId, (id, executor) -> userRepository.findById(id)
+                        .map(UserRow::toPrincipal)
+                        .toFuture()))
+                .switchIfEmpty(Mono.defer(() -> {
+                    securityEventLog.failure("unknown_user");
+                    return Mono.<UserPrincipal>error(new BadCredentialsException("Unknown user"));
+                }))
+                .map(principal -> UsernamePasswordAuthenticationToken.authenticated(
+                        principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.resourcetech.meajuda.reactive.infrastructure.security;
+
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import com.resourcetech.meajuda.infrastructure.security.BoundedPasswordEncoder;
+import com.resourcetech.meajuda.infrastructure.security.JwtTokenProvider;
+import com.resourcetech.meajuda.infrastructure.security.SecurityEventLog;
+import com.resourcetech.meajuda.reactive.domain.repositories.UserRowRepository;
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(
+            ServerHttpSecurity http,
+            JwtTokenProvider tokenProvider,
+            UserRowRepository userRepository,
+            SecurityEventLog securityEventLog,
+            AppProperties appProperties) {
+        var bearerAuthentication = new AuthenticationWebFilter(
+                new ReactiveJwtAuthenticationManager(tokenProvider, userRepository, securityEventLog, appProperties));
+        bearerAuthentication.setServerAuthenticationConverter(exchange -> {
+            String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            if (header == null || !header.startsWith(BEARER_PREFIX) || header.length() == BEARER_PREFIX.length()) {
+                return Mono.empty();
+            }
+            String token = header.substring(BEARER_PREFIX.length());
+            return Mono.just(new PreAuthenticatedAuthenticationToken(token, token));
+        });
+        // A rejected token leaves the request unauthenticated: public routes still answer and
+        // protected ones get 401 from the entry point below.
+        bearerAuthentication.setAuthenticationFailureHandler(
+                (filterExchange, ex) -> filterExchange.getChain().filter(filterExchange.getExchange()));
+
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .cors(ServerHttpSecurity.CorsSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(handling -> handling
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers("/api/auth/**").permitAll()
+                        .matchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        .anyExchange().authenticated())
+                .addFilterAt(bearerAuthentication, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    /**
+     * Password logins. Hash checks are handed off the event loop to the bounded hashing pool, so a
+     * login burst queues there and is rejected with 429 once the queue is full.
+     */
+    @Bean
+    public ReactiveAuthenticationManager loginAuthenticationManager(
+            ReactiveCustomUserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+        var manager = new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
+        manager.setPasswordEncoder(passwordEncoder);
+        manager.setUserDetailsPasswordService(userDetailsService);
+        return manager;
+    }
+
+    /**
+     * Same encoding as the servlet application, so either stack verifies the other's hashes.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(AppProperties appProperties) {
+        return BoundedPasswordEncoder.bcrypt(appProperties.getAuth());
+    }
+}
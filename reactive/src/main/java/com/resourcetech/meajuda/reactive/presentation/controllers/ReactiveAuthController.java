@@ -0,0 +1,78 @@
+package com.resourcetech.meajuda.reactive.presentation.controllers;
+
+import com.resourcetech.meajuda.application.dtos.AuthResponseDto;
+import com.resourcetech.meajuda.application.dtos.LoginRequestDto;
+import com.resourcetech.meajuda.application.dtos.SignUpRequestDto;
+import com.resourcetech.meajuda.infrastructure.security.JwtTokenProvider;
+import com.resourcetech.meajuda.reactive.application.services.ReactiveUserRegistrationService;
+import com.resourcetech.meajuda.reactive.domain.repositories.UserRowRepository;
+import com.resourcetech.meajuda.reactive.domain.rows.UserRow;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@RestController
+@RequestMapping("/api/auth")
+public class ReactiveAuthController {
+
+    private final ReactiveAuthenticationManager loginAuthenticationManager;
+    private final UserRowRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtTokenProvider tokenProvider;
+    private final ReactiveUserRegistrationService userRegistrationService;
+
+    public ReactiveAuthController(
+            ReactiveAuthenticationManager loginAuthenticationManager,
+            UserRowRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            JwtTokenProvider tokenProvider,
+            ReactiveUserRegistrationService userRegistrationService) {
+        this.loginAuthenticationManager = loginAuthenticationManager;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.tokenProvider = tokenProvider;
+        this.userRegistrationService = userRegistrationService;
+    }
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<AuthResponseDto>> authenticateUser(@Valid @RequestBody LoginRequestDto loginRequest) {
+        return loginAuthenticationManager.authenticate(
+                        UsernamePasswordAuthenticationToken.unauthenticated(
+                                loginRequest.getEmail(),
+                                loginRequest.getPassword()))
+                .onErrorMap(AuthenticationException.class,
+                        ex -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, ex.getMessage(), ex))
+                .map(authentication -> ResponseEntity.ok(new AuthResponseDto(tokenProvider.generateToken(authentication))));
+    }
+
+    /**
+     * Hashing is blocking and CPU-bound, so it runs off the event loop like the password checks
+     * in the login manager.
+     */
+    @PostMapping("/signup")
+    public Mono<ResponseEntity<String>> registerUser(
+            @Valid @RequestBody SignUpRequestDto signUpRequest,
+            UriComponentsBuilder uriBuilder) {
+        return userRepository.existsByEmail(signUpRequest.getEmail()).flatMap(exists -> {
+            if (exists) {
+                return Mono.just(ResponseEntity.badRequest().body("Email address already in use."));
+            }
+            return Mono.fromCallable(() -> passwordEncoder.encode(signUpRequest.getPassword()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(hash -> userRegistrationService.register(new UserRow(
+                            null, signUpRequest.getName(), signUpRequest.getEmail(), hash, "local", false)))
+                    .map(result -> ResponseEntity
+                            .created(uriBuilder.path("/api/users/{id}").buildAndExpand(result.getId()).toUri())
+                            .body("User registered successfully"));
+        });
+    }
+}
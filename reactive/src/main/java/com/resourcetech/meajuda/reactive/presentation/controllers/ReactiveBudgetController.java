@@ -0,0 +1,106 @@
+package com.resourcetech.meajuda.reactive.presentation.controllers;
+
+import com.resourcetech.meajuda.application.dtos.BudgetDto;
+import com.resourcetech.meajuda.application.dtos.BudgetUtilisationDto;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import com.resourcetech.meajuda.reactive.application.services.ReactiveCollectionVersionService;
+import com.resourcetech.meajuda.reactive.domain.repositories.BudgetRowRepository;
+import com.resourcetech.meajuda.reactive.domain.rows.BudgetRow;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+@RestController
+@RequestMapping("/api/budgets")
+public class ReactiveBudgetController {
+
+    private final BudgetRowRepository budgetRepository;
+    private final ReactiveCollectionVersionService collectionVersionService;
+
+    public ReactiveBudgetController(
+            BudgetRowRepository budgetRepository,
+            ReactiveCollectionVersionService collectionVersionService) {
+        this.budgetRepository = budgetRepository;
+        this.collectionVersionService = collectionVersionService;
+    }
+
+    private static BudgetDto convertToDto(BudgetRow budget) {
+        return new BudgetDto(budget.getId(), budget.getName(), budget.getAmount(), budget.getStartDate(),
+                budget.getEndDate(), budget.getCategory(), budget.getCurrentSpent());
+    }
+
+    @GetMapping
+    public Flux<BudgetDto> getBudgets(@AuthenticationPrincipal UserPrincipal currentUser) {
+        return budgetRepository.findByUserIdOrderById(currentUser.getId())
+                .map(ReactiveBudgetController::convertToDto);
+    }
+
+    @GetMapping("/utilisation")
+    public Flux<BudgetUtilisationDto> getUtilisation(@AuthenticationPrincipal UserPrincipal currentUser) {
+        return budgetRepository.findUtilisationByUserId(currentUser.getId());
+    }
+
+    @PostMapping
+    @Transactional
+    public Mono<ResponseEntity<BudgetDto>> createBudget(
+            @Valid @RequestBody BudgetDto budgetDto,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        Long userId = currentUser.getId();
+        return collectionVersionService.bump(userId, VersionedCollection.BUDGETS)
+                .flatMap(changeSeq -> budgetRepository.save(new BudgetRow(null, budgetDto.getName(),
+                        budgetDto.getAmount(), budgetDto.getCategory(), budgetDto.getStartDate(),
+                        budgetDto.getEndDate(), BigDecimal.ZERO, userId, changeSeq)))
+                .map(saved -> ResponseEntity.ok(convertToDto(saved)));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<BudgetDto>> getBudget(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return budgetRepository.findByIdAndUserId(id, currentUser.getId())
+                .map(budget -> ResponseEntity.ok(convertToDto(budget)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Updates only the user-editable columns; {@code current_spent} is owned by expense writes,
+     * which adjust it concurrently.
+     */
+    @PutMapping("/{id}")
+    @Transactional
+    public Mono<ResponseEntity<BudgetDto>> updateBudget(
+            @PathVariable Long id,
+            @Valid @RequestBody BudgetDto budgetDto,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        Long userId = currentUser.getId();
+        return budgetRepository.findByIdAndUserId(id, userId)
+                .flatMap(budget -> collectionVersionService.bump(userId, VersionedCollection.BUDGETS)
+                        .flatMap(changeSeq -> budgetRepository.updateDetails(id, userId, budgetDto.getName(),
+                                budgetDto.getAmount(), budgetDto.getCategory(), budgetDto.getStartDate(),
+                                budgetDto.getEndDate(), changeSeq))
+                        .then(budgetRepository.findByIdAndUserId(id, userId)))
+                .map(budget -> ResponseEntity.ok(convertToDto(budget)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    @Transactional
+    public Mono<ResponseEntity<Void>> deleteBudget(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        Long userId = currentUser.getId();
+        return budgetRepository.deleteByIdAndUserId(id, userId)
+                .filter(deleted -> deleted > 0)
+                .flatMap(deleted -> collectionVersionService.bump(userId, VersionedCollection.BUDGETS))
+                .flatMap(changeSeq -> collectionVersionService.tombstone(userId, VersionedCollection.BUDGETS, id, changeSeq)
+                        .thenReturn(ResponseEntity.ok().<Void>build()))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
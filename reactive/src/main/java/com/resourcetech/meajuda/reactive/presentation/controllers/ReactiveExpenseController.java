@@ -0,0 +1,274 @@
+package com.resourcetech.meajuda.reactive.presentation.controllers;
+
+import com.resourcetech.meajuda.application.dtos.ExpenseCursor;
+import com.resourcetech.meajuda.application.dtos.ExpenseDto;
+import com.resourcetech.meajuda.application.dtos.MonthlyCategoryTotalDto;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import com.resourcetech.meajuda.reactive.application.services.ReactiveCollectionVersionService;
+import com.resourcetech.meajuda.reactive.application.services.ReactiveExpenseLedger;
+import com.resourcetech.meajuda.reactive.domain.repositories.ExpenseRowRepository;
+import com.resourcetech.meajuda.reactive.domain.rows.ExpenseRow;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reactive mirror of {@code ExpenseController}: keyset pages with the same cursors, the NDJSON
+ * stream, the monthly trend and the write endpoints, which keep budget totals, rollups, sync
+ * tombstones and the alert outbox in step exactly as the servlet stack does. Bulk import and
+ * the ad-hoc summaries are only served by the servlet application.
+ */
+@RestController
+@RequestMapping("/api/expenses")
+public class ReactiveExpenseController {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final String DEFAULT_PAGE_SIZE = "50";
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int DEFAULT_TREND_MONTHS = 24;
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("expenseDate"), Sort.Order.desc("id"));
+
+    private final ExpenseRowRepository expenseRepository;
+    private final R2dbcEntityTemplate template;
+    private final ReactiveCollectionVersionService collectionVersionService;
+    private final ReactiveExpenseLedger ledger;
+
+    public ReactiveExpenseController(
+            ExpenseRowRepository expenseRepository,
+            R2dbcEntityTemplate template,
+            ReactiveCollectionVersionService collectionVersionService,
+            ReactiveExpenseLedger ledger) {
+        this.expenseRepository = expenseRepository;
+        this.template = template;
+        this.collectionVersionService = collectionVersionService;
+        this.ledger = ledger;
+    }
+
+    static ExpenseDto convertToDto(ExpenseRow row) {
+        return new ExpenseDto(row.getId(), row.getDescription(), row.getAmount(), row.getExpenseDate(),
+                row.getCategory(), row.getBudgetId(), row.getPaymentMethod(), row.isRecurring(),
+                row.getRecurrencePeriod());
+    }
+
+    private static void updateRow(ExpenseRow row, ExpenseDto dto) {
+        row.setDescription(dto.getDescription());
+        row.setAmount(dto.getAmount());
+        row.setExpenseDate(dto.getExpenseDate());
+        row.setCategory(dto.getCategory());
+        row.setPaymentMethod(dto.getPaymentMethod());
+        row.setRecurring(dto.isRecurring());
+        row.setRecurrencePeriod(dto.getRecurrencePeriod());
+        row.setBudgetId(dto.getBudgetId());
+    }
+
+    private Mono<Long> bumpVersions(Long userId, Long... budgetIds) {
+        if (Arrays.stream(budgetIds).anyMatch(Objects::nonNull)) {
+            return collectionVersionService.bump(userId, VersionedCollection.EXPENSES, VersionedCollection.BUDGETS);
+        }
+        return collectionVersionService.bump(userId, VersionedCollection.EXPENSES);
+    }
+
+    /**
+     * One keyset page in {@code (expense_date, id)} descending order. One extra row is read to
+     * decide whether a next cursor is issued.
+     */
+    private Mono<ResponseEntity<List<ExpenseDto>>> page(Criteria filter, String cursor, int limit) {
+        ScrollPosition position;
+        try {
+            position = ExpenseCursor.decode(cursor);
+        } catch (IllegalArgumentException ex) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", ex));
+        }
+        Criteria criteria = filter;
+        if (position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            var expenseDate = (LocalDateTime) keyset.getKeys().get("expenseDate");
+            var id = (Long) keyset.getKeys().get("id");
+            criteria = criteria.and(Criteria.where("expenseDate").lessThan(expenseDate)
+                    .or(Criteria.where("expenseDate").is(expenseDate).and("id").lessThan(id)));
+        }
+
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return template.select(ExpenseRow.class)
+                .matching(Query.query(criteria).sort(KEYSET_ORDER).limit(size + 1))
+                .all()
+                .map(ReactiveExpenseController::convertToDto)
+                .collectList()
+                .map(rows -> {
+                    var response = ResponseEntity.ok();
+                    if (rows.size() <= size) {
+                        return response.body(rows);
+                    }
+                    ExpenseDto last = rows.get(size - 1);
+                    response.header(NEXT_CURSOR_HEADER, ExpenseCursor.encode(ScrollPosition.forward(
+                            Map.of("expenseDate", last.getExpenseDate(), "id", last.getId()))));
+                    return response.body(rows.subList(0, size));
+                });
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<List<ExpenseDto>>> getExpenses(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return page(Criteria.where("userId").is(currentUser.getId()), cursor, limit);
+    }
+
+    @GetMapping(value = "/stream", produces = NDJSON_VALUE)
+    public Flux<ExpenseDto> streamExpenses(@AuthenticationPrincipal UserPrincipal currentUser) {
+        return expenseRepository.findByUserIdOrderByExpenseDateDescIdDesc(currentUser.getId())
+                .map(ReactiveExpenseController::convertToDto);
+    }
+
+    @GetMapping("/by-date-range")
+    public Mono<ResponseEntity<List<ExpenseDto>>> getExpensesByDateRange(
+            @RequestParam LocalDateTime startDate,
+            @RequestParam LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return page(Criteria.where("userId").is(currentUser.getId())
+                .and("expenseDate").between(startDate, endDate), cursor, limit);
+    }
+
+    @GetMapping("/by-category")
+    public Mono<ResponseEntity<List<ExpenseDto>>> getExpensesByCategory(
+            @RequestParam String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return page(Criteria.where("userId").is(currentUser.getId())
+                .and("category").is(category), cursor, limit);
+    }
+
+    @GetMapping("/summary/trend")
+    public Flux<MonthlyCategoryTotalDto> getMonthlyTrend(
+            @RequestParam(required = false) YearMonth fromMonth,
+            @RequestParam(required = false) YearMonth toMonth,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        var to = toMonth != null ? toMonth : YearMonth.now();
+        var from = fromMonth != null ? fromMonth : to.minusMonths(DEFAULT_TREND_MONTHS - 1);
+        return ledger.findTrend(currentUser.getId(), from.toString(), to.toString());
+    }
+
+    @PostMapping
+    @Transactional
+    public Mono<ResponseEntity<ExpenseDto>> createExpense(
+            @Valid @RequestBody ExpenseDto expenseDto,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        Long userId = currentUser.getId();
+        return bumpVersions(userId, expenseDto.getBudgetId()).flatMap(changeSeq -> ledger.nextId("expenses_seq")
+                .flatMap(id -> {
+                    var expense = new ExpenseRow();
+                    expense.setId(id);
+                    expense.setUserId(userId);
+                    updateRow(expense, expenseDto);
+                    expense.setChangeSeq(changeSeq);
+                    return template.insert(expense);
+                })
+                .flatMap(saved -> ledger
+                        .moveBudgetSpent(userId, changeSeq, null, BigDecimal.ZERO, saved.getBudgetId(), saved.getAmount())
+                        .then(ledger.addToRollup(userId, saved.getExpenseDate(), saved.getCategory(), saved.getAmount()))
+                        .then(ledger.recordOutbox(saved))
+                        .thenReturn(ResponseEntity.ok(convertToDto(saved)))));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ExpenseDto>> getExpense(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return expenseRepository.findByIdAndUserId(id, currentUser.getId())
+                .map(expense -> ResponseEntity.ok(convertToDto(expense)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{id}")
+    @Transactional
+    public Mono<ResponseEntity<ExpenseDto>> updateExpense(
+            @PathVariable Long id,
+            @Valid @RequestBody ExpenseDto expenseDto,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        Long userId = currentUser.getId();
+        return expenseRepository.findByIdAndUserId(id, userId)
+                .flatMap(found -> bumpVersions(userId, found.getBudgetId(), expenseDto.getBudgetId()))
+                .flatMap(changeSeq -> expenseRepository.findByIdAndUserId(id, userId).flatMap(expense -> {
+                    Long previousBudgetId = expense.getBudgetId();
+                    BigDecimal previousAmount = expense.getAmount();
+                    LocalDateTime previousDate = expense.getExpenseDate();
+                    String previousCategory = expense.getCategory();
+                    boolean scheduleChanged = expense.isRecurring() != expenseDto.isRecurring()
+                            || !Objects.equals(expense.getRecurrencePeriod(), expenseDto.getRecurrencePeriod())
+                            || !previousDate.equals(expenseDto.getExpenseDate());
+                    updateRow(expense, expenseDto);
+                    if (scheduleChanged) {
+                        expense.setNextOccurrenceDate(null);
+                    }
+                    expense.setChangeSeq(changeSeq);
+                    return template.update(expense).flatMap(saved -> {
+                        if (!saved.isPosted()) {
+                            // Nothing is credited yet; moving zero only checks that a new budget is the user's.
+                            return ledger
+                                    .moveBudgetSpent(userId, changeSeq, previousBudgetId, BigDecimal.ZERO,
+                                            saved.getBudgetId(), BigDecimal.ZERO)
+                                    .thenReturn(ResponseEntity.ok(convertToDto(saved)));
+                        }
+                        return ledger
+                                .moveBudgetSpent(userId, changeSeq, previousBudgetId, previousAmount,
+                                        saved.getBudgetId(), saved.getAmount())
+                                .then(ledger.moveInRollup(userId,
+                                        previousDate, previousCategory, previousAmount,
+                                        saved.getExpenseDate(), saved.getCategory(), saved.getAmount()))
+                                .then(ledger.recordOutboxChange(previousBudgetId, previousAmount, saved))
+                                .thenReturn(ResponseEntity.ok(convertToDto(saved)));
+                    });
+                }))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    @Transactional
+    public Mono<ResponseEntity<Void>> deleteExpense(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        Long userId = currentUser.getId();
+        return expenseRepository.findByIdAndUserId(id, userId)
+                .flatMap(found -> bumpVersions(userId, found.getBudgetId()))
+                .flatMap(changeSeq -> expenseRepository.findByIdAndUserId(id, userId).flatMap(expense -> {
+                    Mono<Void> removal = expenseRepository.deleteByIdAndUserId(expense.getId(), userId)
+                            .then(collectionVersionService.tombstone(
+                                    userId, VersionedCollection.EXPENSES, expense.getId(), changeSeq));
+                    if (expense.isPosted()) {
+                        removal = removal
+                                .then(ledger.applyBudgetDelta(
+                                        userId, changeSeq, expense.getBudgetId(), expense.getAmount().negate()))
+                                .then(ledger.removeFromRollup(
+                                        userId, expense.getExpenseDate(), expense.getCategory(), expense.getAmount()))
+                                .then(ledger.recordOutboxRemoval(
+                                        userId, expense.getId(), expense.getBudgetId(), expense.getAmount()));
+                    }
+                    return removal.thenReturn(ResponseEntity.ok().<Void>build());
+                }))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
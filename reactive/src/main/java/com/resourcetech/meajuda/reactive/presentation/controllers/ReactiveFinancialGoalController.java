@@ -0,0 +1,135 @@
+package com.resourcetech.meajuda.reactive.presentation.controllers;
+
+import com.resourcetech.meajuda.application.dtos.FinancialGoalDto;
+import com.resourcetech.meajuda.domain.entities.GoalStatus;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import com.resourcetech.meajuda.reactive.application.services.ReactiveCollectionVersionService;
+import com.resourcetech.meajuda.reactive.domain.repositories.FinancialGoalRowRepository;
+import com.resourcetech.meajuda.reactive.domain.rows.FinancialGoalRow;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/goals")
+public class ReactiveFinancialGoalController {
+
+    private final FinancialGoalRowRepository goalRepository;
+    private final ReactiveCollectionVersionService collectionVersionService;
+
+    public ReactiveFinancialGoalController(
+            FinancialGoalRowRepository goalRepository,
+            ReactiveCollectionVersionService collectionVersionService) {
+        this.goalRepository = goalRepository;
+        this.collectionVersionService = collectionVersionService;
+    }
+
+    private static FinancialGoalDto convertToDto(FinancialGoalRow goal) {
+        return new FinancialGoalDto(goal.getId(), goal.getName(), goal.getDescription(), goal.getTargetAmount(),
+                goal.getCurrentAmount(), goal.getTargetDate(), goal.getStatus());
+    }
+
+    private static void updateRow(FinancialGoalRow goal, FinancialGoalDto dto) {
+        goal.setName(dto.getName());
+        goal.setDescription(dto.getDescription());
+        goal.setTargetAmount(dto.getTargetAmount());
+        goal.setCurrentAmount(dto.getCurrentAmount());
+        goal.setTargetDate(dto.getTargetDate());
+        goal.setStatus(dto.getStatus() != null ? dto.getStatus() : GoalStatus.IN_PROGRESS);
+    }
+
+    @GetMapping
+    public Flux<FinancialGoalDto> getGoals(@AuthenticationPrincipal UserPrincipal currentUser) {
+        return goalRepository.findByUserIdOrderById(currentUser.getId())
+                .map(ReactiveFinancialGoalController::convertToDto);
+    }
+
+    @GetMapping("/by-status")
+    public Flux<FinancialGoalDto> getGoalsByStatus(
+            @RequestParam GoalStatus status,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return goalRepository.findByUserIdAndStatusOrderById(currentUser.getId(), status)
+                .map(ReactiveFinancialGoalController::convertToDto);
+    }
+
+    @PostMapping
+    @Transactional
+    public Mono<ResponseEntity<FinancialGoalDto>> createGoal(
+            @Valid @RequestBody FinancialGoalDto goalDto,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        Long userId = currentUser.getId();
+        return collectionVersionService.bump(userId, VersionedCollection.GOALS)
+                .flatMap(changeSeq -> {
+                    var goal = new FinancialGoalRow();
+                    goal.setUserId(userId);
+                    updateRow(goal, goalDto);
+                    goal.setChangeSeq(changeSeq);
+                    return goalRepository.save(goal);
+                })
+                .map(saved -> ResponseEntity.ok(convertToDto(saved)));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<FinancialGoalDto>> getGoal(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return goalRepository.findByIdAndUserId(id, currentUser.getId())
+                .map(goal -> ResponseEntity.ok(convertToDto(goal)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{id}")
+    @Transactional
+    public Mono<ResponseEntity<FinancialGoalDto>> updateGoal(
+            @PathVariable Long id,
+            @Valid @RequestBody FinancialGoalDto goalDto,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        Long userId = currentUser.getId();
+        return goalRepository.findByIdAndUserId(id, userId)
+                .flatMap(goal -> collectionVersionService.bump(userId, VersionedCollection.GOALS)
+                        .flatMap(changeSeq -> {
+                            goal.setChangeSeq(changeSeq);
+                            updateRow(goal, goalDto);
+                            return goalRepository.save(goal);
+                        }))
+                .map(saved -> ResponseEntity.ok(convertToDto(saved)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PatchMapping("/{id}/status")
+    @Transactional
+    public Mono<ResponseEntity<FinancialGoalDto>> updateGoalStatus(
+            @PathVariable Long id,
+            @RequestParam GoalStatus status,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        Long userId = currentUser.getId();
+        return goalRepository.findByIdAndUserId(id, userId)
+                .flatMap(goal -> collectionVersionService.bump(userId, VersionedCollection.GOALS)
+                        .flatMap(changeSeq -> {
+                            goal.setChangeSeq(changeSeq);
+                            goal.setStatus(status);
+                            return goalRepository.save(goal);
+                        }))
+                .map(saved -> ResponseEntity.ok(convertToDto(saved)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    @Transactional
+    public Mono<ResponseEntity<Void>> deleteGoal(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        Long userId = currentUser.getId();
+        return goalRepository.deleteByIdAndUserId(id, userId)
+                .filter(deleted -> deleted > 0)
+                .flatMap(deleted -> collectionVersionService.bump(userId, VersionedCollection.GOALS))
+                .flatMap(changeSeq -> collectionVersionService.tombstone(userId, VersionedCollection.GOALS, id, changeSeq)
+                        .thenReturn(ResponseEntity.ok().<Void>build()))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
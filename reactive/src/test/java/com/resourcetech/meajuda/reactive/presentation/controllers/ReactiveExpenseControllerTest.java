@@ -0,0 +1,217 @@
+package com.resourcetech.meajuda.reactive.presentation.controllers;
+
+import com.resourcetech.meajuda.application.dtos.AuthResponseDto;
+import com.resourcetech.meajuda.application.dtos.BudgetDto;
+import com.resourcetech.meajuda.application.dtos.ExpenseDto;
+import com.resourcetech.meajuda.application.dtos.LoginRequestDto;
+import com.resourcetech.meajuda.application.dtos.SignUpRequestDto;
+import com.resourcetech.meajuda.infrastructure.security.JwtTokenProvider;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest(properties = "spring.config.name=reactive")
+@AutoConfigureWebTestClient
+public class ReactiveExpenseControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private String email;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        email = "reactive-" + UUID.randomUUID() + "@example.com";
+        webTestClient.post().uri("/api/auth/signup")
+                .bodyValue(new SignUpRequestDto("Reactive User", email, "password123"))
+                .exchange()
+                .expectStatus().isCreated();
+
+        AuthResponseDto auth = webTestClient.post().uri("/api/auth/login")
+                .bodyValue(new LoginRequestDto(email, "password123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(AuthResponseDto.class)
+                .returnResult().getResponseBody();
+        assertNotNull(auth);
+        token = auth.getAccessToken();
+    }
+
+    private ExpenseDto expenseDto(Long budgetId) {
+        var dto = new ExpenseDto();
+        dto.setDescription("Lunch");
+        dto.setAmount(new BigDecimal("12.50"));
+        dto.setExpenseDate(LocalDateTime.now());
+        dto.setCategory("Food");
+        dto.setBudgetId(budgetId);
+        return dto;
+    }
+
+    @Test
+    public void testRequestsWithoutTokenAreUnauthorized() {
+        webTestClient.get().uri("/api/expenses")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void testInvalidTokenIsUnauthorizedOnProtectedRoutes() {
+        webTestClient.get().uri("/api/expenses")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void testInvalidTokenDoesNotBlockPublicRoutes() {
+        webTestClient.post().uri("/api/auth/login")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token")
+                .bodyValue(new LoginRequestDto(email, "password123"))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    public void testTokenForUnknownUserIsUnauthorized() {
+        var ghost = new UserPrincipal(Long.MAX_VALUE, "ghost@example.com", null, List.of());
+        String ghostToken = tokenProvider.generateToken(
+                UsernamePasswordAuthenticationToken.authenticated(ghost, null, ghost.getAuthorities()));
+
+        webTestClient.get().uri("/api/expenses")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + ghostToken)
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void testCreateExpenseCreditsBudget() {
+        var budgetDto = new BudgetDto();
+        budgetDto.setName("Groceries");
+        budgetDto.setAmount(new BigDecimal("400.00"));
+        budgetDto.setCategory("Food");
+        budgetDto.setStartDate(LocalDate.now());
+
+        BudgetDto budget = webTestClient.post().uri("/api/budgets")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(budgetDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BudgetDto.class)
+                .returnResult().getResponseBody();
+        assertNotNull(budget);
+
+        webTestClient.post().uri("/api/expenses")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(expenseDto(budget.getId()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.budgetId").isEqualTo(budget.getId().intValue());
+
+        webTestClient.get().uri("/api/budgets/" + budget.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.currentSpent").isEqualTo(12.50);
+    }
+
+    @Test
+    public void testListPagesWithCursor() {
+        for (int i = 0; i < 3; i++) {
+            webTestClient.post().uri("/api/expenses")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .bodyValue(expenseDto(null))
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+
+        String cursor = webTestClient.get().uri("/api/expenses?limit=2")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .returnResult().getResponseHeaders().getFirst(ReactiveExpenseController.NEXT_CURSOR_HEADER);
+        assertNotNull(cursor);
+
+        webTestClient.get().uri(uri -> uri.path("/api/expenses").queryParam("limit", 2).queryParam("cursor", cursor).build())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(ReactiveExpenseController.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1);
+    }
+
+    @Test
+    public void testInvalidCursorIsBadRequest() {
+        webTestClient.get().uri("/api/expenses?cursor=not-a-cursor")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testDeleteRecordsOutboxRemoval() {
+        var budgetDto = new BudgetDto();
+        budgetDto.setName("Transport");
+        budgetDto.setAmount(new BigDecimal("100.00"));
+        budgetDto.setCategory("Transport");
+        budgetDto.setStartDate(LocalDate.now());
+        BudgetDto budget = webTestClient.post().uri("/api/budgets")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(budgetDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BudgetDto.class)
+                .returnResult().getResponseBody();
+        assertNotNull(budget);
+
+        ExpenseDto expense = webTestClient.post().uri("/api/expenses")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(expenseDto(budget.getId()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ExpenseDto.class)
+                .returnResult().getResponseBody();
+        assertNotNull(expense);
+
+        webTestClient.delete().uri("/api/expenses/" + expense.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk();
+
+        List<BigDecimal> amounts = databaseClient
+                .sql("select amount from expense_outbox where expense_id = :expenseId order by id")
+                .bind("expenseId", expense.getId())
+                .map(row -> row.get("amount", BigDecimal.class))
+                .all()
+                .collectList()
+                .block();
+        assertEquals(List.of(new BigDecimal("12.50"), new BigDecimal("-12.50")), amounts);
+    }
+}
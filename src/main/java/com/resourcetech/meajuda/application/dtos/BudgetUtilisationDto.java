@@ -0,0 +1,30 @@
+package com.resourcetech.meajuda.application.dtos;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetUtilisationDto {
+    private Long id;
+
+    private String name;
+
+    private String category;
+
+    private BigDecimal amount;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private BigDecimal spent;
+
+    private BigDecimal remaining;
+
+    private Long expenseCount;
+}
@@ -0,0 +1,51 @@
+package com.resourcetech.meajuda.application.dtos;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque keyset cursor over the {@code (expense_date, id)} ordering of expenses.
+ */
+public final class ExpenseCursor {
+    private static final String EXPENSE_DATE = "expenseDate";
+    private static final String ID = "id";
+    private static final char SEPARATOR = '|';
+
+    private ExpenseCursor() {
+    }
+
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Expense cursors require a keyset position");
+        }
+        Map<String, ?> keys = keyset.getKeys();
+        String raw = keys.get(EXPENSE_DATE) + String.valueOf(SEPARATOR) + keys.get(ID);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed expense cursor");
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(EXPENSE_DATE, LocalDateTime.parse(raw.substring(0, separator)));
+            keys.put(ID, Long.parseLong(raw.substring(separator + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new IllegalArgumentException("Malformed expense cursor", ex);
+        }
+    }
+}
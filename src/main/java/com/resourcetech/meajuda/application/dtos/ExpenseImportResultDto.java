@@ -0,0 +1,24 @@
+package com.resourcetech.meajuda.application.dtos;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseImportResultDto {
+    private int imported;
+
+    private int rejected;
+
+    private List<String> errors = new ArrayList<>();
+
+    /** False if a batch failed to save and the rows after {@code committedThroughRow} were not imported. */
+    private boolean complete = true;
+
+    /** Last input row that was either saved or reported; the client resumes after it. */
+    private int committedThroughRow;
+}
@@ -0,0 +1,17 @@
+package com.resourcetech.meajuda.application.dtos;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseSummaryDto {
+    private String key;
+
+    private BigDecimal total;
+
+    private Long count;
+}
@@ -0,0 +1,19 @@
+package com.resourcetech.meajuda.application.dtos;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyCategoryTotalDto {
+    private String yearMonth;
+
+    private String category;
+
+    private BigDecimal total;
+
+    private Long count;
+}
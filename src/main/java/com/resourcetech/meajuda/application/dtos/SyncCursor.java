@@ -0,0 +1,40 @@
+package com.resourcetech.meajuda.application.dtos;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque delta-sync cursor: the last change sequence the client has applied and when the
+ * cursor was issued. The issue time tells whether tombstones the client still needs may have
+ * been pruned since.
+ */
+public record SyncCursor(long changeSeq, Instant issuedAt) {
+    private static final char SEPARATOR = '|';
+
+    public static SyncCursor initial() {
+        return new SyncCursor(-1, null);
+    }
+
+    public String encode() {
+        String raw = changeSeq + String.valueOf(SEPARATOR) + issuedAt.getEpochSecond();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return initial();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed sync cursor");
+            }
+            return new SyncCursor(Long.parseLong(raw.substring(0, separator)),
+                    Instant.ofEpochSecond(Long.parseLong(raw.substring(separator + 1))));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Malformed sync cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.resourcetech.meajuda.application.dtos;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResponseDto {
+    private List<ExpenseDto> expenses = new ArrayList<>();
+
+    private List<BudgetDto> budgets = new ArrayList<>();
+
+    private List<FinancialGoalDto> goals = new ArrayList<>();
+
+    private List<SyncTombstoneDto> deleted = new ArrayList<>();
+
+    private String nextCursor;
+
+    private boolean hasMore;
+}
@@ -0,0 +1,15 @@
+package com.resourcetech.meajuda.application.dtos;
+
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTombstoneDto {
+    private VersionedCollection collection;
+
+    private Long id;
+}
@@ -0,0 +1,15 @@
+package com.resourcetech.meajuda.application.events;
+
+import java.math.BigDecimal;
+
+/**
+ * A budget whose spending crossed {@code thresholdPercent} of its amount.
+ */
+public record BudgetAlert(
+        Long userId,
+        Long budgetId,
+        String budgetName,
+        int thresholdPercent,
+        BigDecimal spent,
+        BigDecimal amount) {
+}
@@ -0,0 +1,11 @@
+package com.resourcetech.meajuda.application.events;
+
+import java.util.List;
+
+/**
+ * Delivers budget alerts to users. A delivery that throws is retried with the same outbox
+ * batch, so implementations must tolerate seeing an alert more than once.
+ */
+public interface BudgetAlertSink {
+    void deliver(List<BudgetAlert> alerts);
+}
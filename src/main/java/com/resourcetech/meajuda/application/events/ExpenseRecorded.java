@@ -0,0 +1,8 @@
+package com.resourcetech.meajuda.application.events;
+
+/**
+ * Published when a transaction appends {@code count} rows to the expense outbox. Listeners only
+ * treat it as a wake-up; the outbox rows themselves are the source of truth.
+ */
+public record ExpenseRecorded(int count) {
+}
@@ -0,0 +1,63 @@
+package com.resourcetech.meajuda.application.services;
+
+import com.resourcetech.meajuda.application.events.BudgetAlert;
+import com.resourcetech.meajuda.domain.entities.Budget;
+import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compares budgets against the 80% and 100% spending thresholds. Each budget remembers the
+ * highest threshold it has alerted for, so a threshold alerts once per crossing; dropping back
+ * below it (for example after a deletion) re-arms it.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class BudgetThresholdEvaluator {
+    static final int[] THRESHOLDS = {100, 80};
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final BudgetRepository budgetRepository;
+
+    public BudgetThresholdEvaluator(BudgetRepository budgetRepository) {
+        this.budgetRepository = budgetRepository;
+    }
+
+    /**
+     * Returns the alerts newly due for the given budgets. The budgets' alert levels are updated
+     * on the managed entities and written when the caller's transaction flushes.
+     */
+    public List<BudgetAlert> evaluate(Collection<Long> budgetIds) {
+        List<BudgetAlert> alerts = new ArrayList<>();
+        for (Budget budget : budgetRepository.findAllById(budgetIds)) {
+            int level = thresholdReached(budget.getCurrentSpent(), budget.getAmount());
+            if (level > budget.getAlertLevel()) {
+                alerts.add(new BudgetAlert(budget.getUser().getId(), budget.getId(), budget.getName(),
+                        level, budget.getCurrentSpent(), budget.getAmount()));
+            }
+            if (level != budget.getAlertLevel()) {
+                budget.setAlertLevel(level);
+            }
+        }
+        return alerts;
+    }
+
+    static int thresholdReached(BigDecimal spent, BigDecimal amount) {
+        if (spent == null || amount == null || amount.signum() <= 0) {
+            return 0;
+        }
+        BigDecimal usedPercent = spent.multiply(HUNDRED);
+        for (int threshold : THRESHOLDS) {
+            if (usedPercent.compareTo(amount.multiply(BigDecimal.valueOf(threshold))) >= 0) {
+                return threshold;
+            }
+        }
+        return 0;
+    }
+}
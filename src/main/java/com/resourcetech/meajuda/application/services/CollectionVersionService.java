@@ -0,0 +1,103 @@
+package com.resourcetech.meajuda.application.services;
+
+import com.resourcetech.meajuda.domain.entities.CollectionVersion;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import com.resourcetech.meajuda.domain.repositories.CollectionVersionRepository;
+import com.resourcetech.meajuda.infrastructure.persistence.DatabaseVendor;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Per-user version stamps for the expense, budget and goal collections, plus a per-user change
+ * sequence shared by all three. Writers bump the affected collections inside their own
+ * transaction and stamp the rows they touch with the returned sequence. The bump locks the
+ * user's row until commit, so a user's changes always commit in sequence order and a sync
+ * cursor can never skip over a change that commits late. Users get their row at signup; the
+ * bump is still an atomic upsert so rows missing for older users are created without a race.
+ */
+@Service
+public class CollectionVersionService {
+
+    private final CollectionVersionRepository collectionVersionRepository;
+    private final EntityManager entityManager;
+    private final DatabaseVendor databaseVendor;
+
+    public CollectionVersionService(
+            CollectionVersionRepository collectionVersionRepository,
+            EntityManager entityManager,
+            DatabaseVendor databaseVendor) {
+        this.collectionVersionRepository = collectionVersionRepository;
+        this.entityManager = entityManager;
+        this.databaseVendor = databaseVendor;
+    }
+
+    @Transactional
+    public void create(Long userId) {
+        collectionVersionRepository.save(new CollectionVersion(userId, 0, 0, 0, 0));
+    }
+
+    public long currentVersion(Long userId, VersionedCollection collection) {
+        return collectionVersionRepository.findById(userId)
+                .map(version -> version.versionOf(collection))
+                .orElse(0L);
+    }
+
+    /**
+     * Returns the user's current version of each given collection, in order, from one lookup.
+     */
+    public long[] currentVersions(Long userId, VersionedCollection... collections) {
+        var version = collectionVersionRepository.findById(userId);
+        return Arrays.stream(collections)
+                .mapToLong(collection -> version.map(current -> current.versionOf(collection)).orElse(0L))
+                .toArray();
+    }
+
+    public long currentChangeSeq(Long userId) {
+        return collectionVersionRepository.findById(userId)
+                .map(CollectionVersion::getChangeSeq)
+                .orElse(0L);
+    }
+
+    /**
+     * Bumps the given collections and returns the user's new change sequence.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long bump(Long userId, VersionedCollection... collections) {
+        List<VersionedCollection> distinct = Arrays.stream(collections).distinct().toList();
+        String table = databaseVendor.isPostgres() ? "collection_versions." : "v.";
+        String assignments = distinct.stream()
+                .map(collection -> collection.getColumn() + " = " + table + collection.getColumn() + " + 1, ")
+                .collect(Collectors.joining());
+        String upsert = databaseVendor.isPostgres()
+                ? """
+                  insert into collection_versions
+                      (user_id, expenses_version, budgets_version, goals_version, change_seq)
+                  values (:userId, :expenses, :budgets, :goals, 1)
+                  on conflict (user_id) do update set %schange_seq = collection_versions.change_seq + 1
+                  """.formatted(assignments)
+                : """
+                  merge into collection_versions v
+                  using (select cast(:userId as bigint) as user_id) d on v.user_id = d.user_id
+                  when matched then update set %schange_seq = v.change_seq + 1
+                  when not matched then insert
+                      (user_id, expenses_version, budgets_version, goals_version, change_seq)
+                      values (d.user_id, :expenses, :budgets, :goals, 1)
+                  """.formatted(assignments);
+        entityManager.createNativeQuery(upsert)
+                .setParameter("userId", userId)
+                .setParameter("expenses", distinct.contains(VersionedCollection.EXPENSES) ? 1L : 0L)
+                .setParameter("budgets", distinct.contains(VersionedCollection.BUDGETS) ? 1L : 0L)
+                .setParameter("goals", distinct.contains(VersionedCollection.GOALS) ? 1L : 0L)
+                .executeUpdate();
+        return ((Number) entityManager
+                .createNativeQuery("select change_seq from collection_versions where user_id = :userId")
+                .setParameter("userId", userId)
+                .getSingleResult()).longValue();
+    }
+}
@@ -0,0 +1,154 @@
+package com.resourcetech.meajuda.application.services;
+
+import com.resourcetech.meajuda.application.dtos.ExpenseDto;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams {@link ExpenseDto}s out of a CSV document one line at a time. The first line is a header
+ * naming the columns ({@code description, amount, expenseDate, category, budgetId, paymentMethod,
+ * recurring, recurrencePeriod}) in any order; quoted fields may not span lines. A malformed line
+ * makes {@link #next()} throw {@link IllegalArgumentException} after consuming it, so callers can
+ * record the error and keep reading.
+ */
+public class ExpenseCsvReader implements Iterator<ExpenseDto>, Closeable {
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private String nextLine;
+
+    public ExpenseCsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String header = readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header is missing");
+        }
+        List<String> names = split(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of("description", "amount", "expensedate", "category")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing column " + required);
+            }
+        }
+        this.nextLine = readLine();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextLine != null;
+    }
+
+    @Override
+    public ExpenseDto next() {
+        if (nextLine == null) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = readLine();
+        return parse(split(line));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ExpenseDto parse(List<String> fields) {
+        var dto = new ExpenseDto();
+        dto.setDescription(field(fields, "description"));
+        dto.setCategory(field(fields, "category"));
+        dto.setPaymentMethod(field(fields, "paymentmethod"));
+        dto.setRecurrencePeriod(field(fields, "recurrenceperiod"));
+        dto.setRecurring(Boolean.parseBoolean(field(fields, "recurring")));
+        try {
+            String amount = field(fields, "amount");
+            dto.setAmount(amount != null ? new BigDecimal(amount) : null);
+            String budgetId = field(fields, "budgetid");
+            dto.setBudgetId(budgetId != null ? Long.valueOf(budgetId) : null);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid number: " + ex.getMessage(), ex);
+        }
+        try {
+            dto.setExpenseDate(parseDate(field(fields, "expensedate")));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid expense date: " + ex.getParsedString(), ex);
+        }
+        return dto;
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private String readLine() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            return line;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
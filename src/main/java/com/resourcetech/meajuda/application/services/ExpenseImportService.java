@@ -0,0 +1,242 @@
+package com.resourcetech.meajuda.application.services;
+
+import com.resourcetech.meajuda.application.dtos.ExpenseDto;
+import com.resourcetech.meajuda.application.dtos.ExpenseImportResultDto;
+import com.resourcetech.meajuda.domain.entities.Budget;
+import com.resourcetech.meajuda.domain.entities.Expense;
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import com.resourcetech.meajuda.domain.repositories.ExpenseRepository;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports expenses in fixed-size batches: each batch resolves its budgets with one query, is
+ * inserted through Hibernate JDBC batching and then flushed and cleared, so the persistence
+ * context stays small no matter how many rows are imported. Invalid rows are reported and skipped;
+ * input that is malformed between rows is reported as an error on the next row and ends the
+ * import, keeping the rows read before it.
+ *
+ * <p>Every batch commits in its own transaction, so the user's collection versions row is only
+ * locked while a batch is written and not while the upload is read. A batch that fails to write
+ * rolls back on its own and ends the import; the result then reports the import as incomplete
+ * together with the last row that was committed, from which the client can resume.
+ */
+@Service
+public class ExpenseImportService {
+    private static final Logger logger = LoggerFactory.getLogger(ExpenseImportService.class);
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ExpenseRepository expenseRepository;
+    private final BudgetRepository budgetRepository;
+    private final UserRepository userRepository;
+    private final ExpenseRollupService expenseRollupService;
+    private final CollectionVersionService collectionVersionService;
+    private final ExpenseOutbox expenseOutbox;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ExpenseImportService(
+            ExpenseRepository expenseRepository,
+            BudgetRepository budgetRepository,
+            UserRepository userRepository,
+            ExpenseRollupService expenseRollupService,
+            CollectionVersionService collectionVersionService,
+            ExpenseOutbox expenseOutbox,
+            Validator validator,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.expenseRepository = expenseRepository;
+        this.budgetRepository = budgetRepository;
+        this.userRepository = userRepository;
+        this.expenseRollupService = expenseRollupService;
+        this.collectionVersionService = collectionVersionService;
+        this.expenseOutbox = expenseOutbox;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public ExpenseImportResultDto importExpenses(Long userId, Iterator<ExpenseDto> rows) {
+        var result = new ExpenseImportResultDto();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        int rowNumber = 0;
+
+        while (true) {
+            try {
+                if (!rows.hasNext()) {
+                    break;
+                }
+            } catch (RuntimeException ex) {
+                // Malformed input between rows; the reader cannot resynchronise past it.
+                reject(result, rowNumber + 1, ex.getMessage());
+                break;
+            }
+            rowNumber++;
+            ExpenseDto dto;
+            try {
+                dto = rows.next();
+            } catch (RuntimeException ex) {
+                reject(result, rowNumber, ex.getMessage());
+                continue;
+            }
+
+            Set<ConstraintViolation<ExpenseDto>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                reject(result, rowNumber, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                continue;
+            }
+
+            batch.add(new ImportRow(rowNumber, dto));
+            if (batch.size() == batchSize) {
+                if (!commitBatch(userId, batch, result)) {
+                    return result;
+                }
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty() && !commitBatch(userId, batch, result)) {
+            return result;
+        }
+        result.setCommittedThroughRow(rowNumber);
+        return result;
+    }
+
+    /**
+     * Writes the batch in its own transaction and adds its outcome to the result once it has
+     * committed. Returns {@code false} if the batch rolled back, which ends the import.
+     */
+    private boolean commitBatch(Long userId, List<ImportRow> batch, ExpenseImportResultDto result) {
+        int lastRow = batch.get(batch.size() - 1).number();
+        List<Rejection> rejections;
+        try {
+            rejections = transactionTemplate.execute(status -> persistBatch(userId, batch));
+        } catch (RuntimeException ex) {
+            logger.warn("Expense import for user {} stopped at rows {}-{}", userId, batch.get(0).number(), lastRow, ex);
+            result.setComplete(false);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add("Rows " + batch.get(0).number() + "-" + lastRow
+                        + ": could not be saved, import stopped");
+            }
+            return false;
+        }
+        result.setImported(result.getImported() + batch.size() - rejections.size());
+        rejections.forEach(rejection -> reject(result, rejection.number(), rejection.message()));
+        result.setCommittedThroughRow(lastRow);
+        return true;
+    }
+
+    /**
+     * Persists the batch and returns the rows it skipped.
+     */
+    private List<Rejection> persistBatch(Long userId, List<ImportRow> batch) {
+        Set<Long> budgetIds = batch.stream()
+                .map(row -> row.dto().getBudgetId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        long changeSeq = budgetIds.isEmpty()
+                ? collectionVersionService.bump(userId, VersionedCollection.EXPENSES)
+                : collectionVersionService.bump(userId, VersionedCollection.EXPENSES, VersionedCollection.BUDGETS);
+        Map<Long, Budget> budgets = budgetIds.isEmpty() ? Map.of() : budgetRepository.findAllById(budgetIds)
+                .stream()
+                .filter(budget -> budget.getUser().getId().equals(userId))
+                .collect(Collectors.toMap(Budget::getId, Function.identity()));
+
+        User user = userRepository.getReferenceById(userId);
+        List<Expense> expenses = new ArrayList<>(batch.size());
+        Map<Long, BigDecimal> spentByBudget = new HashMap<>();
+        Map<RollupBucket, RollupDelta> rollups = new HashMap<>();
+        List<Rejection> rejections = new ArrayList<>();
+
+        for (ImportRow row : batch) {
+            ExpenseDto dto = row.dto();
+            Budget budget = null;
+            if (dto.getBudgetId() != null) {
+                budget = budgets.get(dto.getBudgetId());
+                if (budget == null) {
+                    rejections.add(new Rejection(row.number(), "Budget not found"));
+                    continue;
+                }
+                spentByBudget.merge(budget.getId(), dto.getAmount(), BigDecimal::add);
+            }
+            var expense = convertToEntity(dto, user, budget);
+            expense.setChangeSeq(changeSeq);
+            expenses.add(expense);
+            rollups.merge(new RollupBucket(ExpenseRollupService.yearMonthOf(dto.getExpenseDate()), dto.getCategory()),
+                    new RollupDelta(dto.getAmount(), 1), RollupDelta::plus);
+        }
+
+        expenseRepository.saveAll(expenses);
+        spentByBudget.forEach((budgetId, delta) -> budgetRepository.addToCurrentSpent(budgetId, userId, delta, changeSeq));
+        rollups.forEach((bucket, delta) -> expenseRollupService.apply(
+                userId, bucket.yearMonth(), bucket.category(), delta.amount(), delta.count()));
+        expenseOutbox.recordAll(expenses);
+        entityManager.flush();
+        entityManager.clear();
+        return rejections;
+    }
+
+    private static Expense convertToEntity(ExpenseDto dto, User user, Budget budget) {
+        var expense = new Expense();
+        expense.setDescription(dto.getDescription());
+        expense.setAmount(dto.getAmount());
+        expense.setExpenseDate(dto.getExpenseDate());
+        expense.setCategory(dto.getCategory());
+        expense.setPaymentMethod(dto.getPaymentMethod());
+        expense.setRecurring(dto.isRecurring());
+        expense.setRecurrencePeriod(dto.getRecurrencePeriod());
+        expense.setUser(user);
+        expense.setBudget(budget);
+        return expense;
+    }
+
+    private static void reject(ExpenseImportResultDto result, int rowNumber, String message) {
+        result.setRejected(result.getRejected() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add("Row " + rowNumber + ": " + message);
+        }
+    }
+
+    private record ImportRow(int number, ExpenseDto dto) {
+    }
+
+    private record Rejection(int number, String message) {
+    }
+
+    private record RollupBucket(String yearMonth, String category) {
+    }
+
+    private record RollupDelta(BigDecimal amount, long count) {
+        RollupDelta plus(RollupDelta other) {
+            return new RollupDelta(amount.add(other.amount), count + other.count);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.resourcetech.meajuda.application.services;
+
+import com.resourcetech.meajuda.application.events.ExpenseRecorded;
+import com.resourcetech.meajuda.domain.entities.Expense;
+import com.resourcetech.meajuda.domain.entities.ExpenseOutboxEvent;
+import com.resourcetech.meajuda.domain.repositories.ExpenseOutboxEventRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Appends every change to a budget's spent amount to the outbox inside the caller's transaction,
+ * so thresholds are evaluated exactly for the writes that committed: new expenses, edits that
+ * change an amount or budget, and removals, which re-arm a threshold once spending drops below
+ * it. Only changes to budgeted expenses are recorded because budget thresholds are the only
+ * consumer.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ExpenseOutbox {
+
+    private final ExpenseOutboxEventRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ExpenseOutbox(ExpenseOutboxEventRepository outboxRepository, ApplicationEventPublisher eventPublisher) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void record(Expense expense) {
+        recordAll(List.of(expense));
+    }
+
+    /**
+     * Records that {@code amount} of the given expense left {@code budgetId}, because the expense
+     * was deleted or moved to another budget. Does nothing for an unbudgeted expense.
+     */
+    public void recordRemoval(Long userId, Long expenseId, Long budgetId, BigDecimal amount) {
+        if (budgetId == null) {
+            return;
+        }
+        outboxRepository.save(new ExpenseOutboxEvent(
+                null, userId, expenseId, budgetId, amount.negate(), LocalDateTime.now()));
+        eventPublisher.publishEvent(new ExpenseRecorded(1));
+    }
+
+    /**
+     * Records the given expenses, which must already have their ids assigned.
+     */
+    public void recordAll(Collection<Expense> expenses) {
+        List<ExpenseOutboxEvent> events = expenses.stream()
+                .filter(expense -> expense.getBudget() != null)
+                .map(ExpenseOutboxEvent::of)
+                .toList();
+        if (events.isEmpty()) {
+            return;
+        }
+        outboxRepository.saveAll(events);
+        eventPublisher.publishEvent(new ExpenseRecorded(events.size()));
+    }
+}
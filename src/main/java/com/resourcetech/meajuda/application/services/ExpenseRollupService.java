@@ -0,0 +1,85 @@
+package com.resourcetech.meajuda.application.services;
+
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import com.resourcetech.meajuda.domain.repositories.ExpenseMonthlyRollupRepository;
+import com.resourcetech.meajuda.infrastructure.persistence.DatabaseVendor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * Keeps {@code expense_monthly_rollup} in step with expense writes. Each change is applied as a
+ * delta to its (user, month, category) bucket inside the caller's transaction, so trend reads
+ * never have to aggregate the raw expense history. The delta is a single atomic upsert, so two
+ * first writes to the same bucket cannot both try to insert it.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ExpenseRollupService {
+
+    private final ExpenseMonthlyRollupRepository rollupRepository;
+    private final CollectionVersionService collectionVersionService;
+    private final DatabaseVendor databaseVendor;
+
+    public ExpenseRollupService(
+            ExpenseMonthlyRollupRepository rollupRepository,
+            CollectionVersionService collectionVersionService,
+            DatabaseVendor databaseVendor) {
+        this.rollupRepository = rollupRepository;
+        this.collectionVersionService = collectionVersionService;
+        this.databaseVendor = databaseVendor;
+    }
+
+    public static String yearMonthOf(LocalDateTime date) {
+        return YearMonth.from(date).toString();
+    }
+
+    public void add(Long userId, LocalDateTime expenseDate, String category, BigDecimal amount) {
+        apply(userId, yearMonthOf(expenseDate), category, amount, 1);
+    }
+
+    public void remove(Long userId, LocalDateTime expenseDate, String category, BigDecimal amount) {
+        apply(userId, yearMonthOf(expenseDate), category, amount.negate(), -1);
+    }
+
+    public void move(Long userId,
+                     LocalDateTime fromDate, String fromCategory, BigDecimal fromAmount,
+                     LocalDateTime toDate, String toCategory, BigDecimal toAmount) {
+        String fromMonth = yearMonthOf(fromDate);
+        String toMonth = yearMonthOf(toDate);
+        if (fromMonth.equals(toMonth) && Objects.equals(fromCategory, toCategory)) {
+            apply(userId, toMonth, toCategory, toAmount.subtract(fromAmount), 0);
+            return;
+        }
+        apply(userId, fromMonth, fromCategory, fromAmount.negate(), -1);
+        apply(userId, toMonth, toCategory, toAmount, 1);
+    }
+
+    public void apply(Long userId, String yearMonth, String category, BigDecimal amount, long count) {
+        if (amount.signum() == 0 && count == 0) {
+            return;
+        }
+        if (databaseVendor.isPostgres()) {
+            rollupRepository.upsertBucketPostgres(userId, yearMonth, category, amount, count);
+        } else {
+            rollupRepository.mergeBucket(userId, yearMonth, category, amount, count);
+        }
+    }
+
+    /**
+     * Recomputes the user's buckets from the expense table. The version bump comes first so the
+     * user's collection-version row is locked before the delete; every expense writer bumps
+     * before touching the rollup, so none can interleave with the rebuild.
+     */
+    @Transactional
+    public int rebuild(Long userId) {
+        collectionVersionService.bump(userId, VersionedCollection.EXPENSES);
+        rollupRepository.deleteByUserId(userId);
+        return rollupRepository.rebuildForUser(userId);
+    }
+}
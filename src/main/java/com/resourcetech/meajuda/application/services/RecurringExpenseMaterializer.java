@@ -0,0 +1,326 @@
+package com.resourcetech.meajuda.application.services;
+
+import com.resourcetech.meajuda.domain.entities.Expense;
+import com.resourcetech.meajuda.domain.entities.RecurrencePeriod;
+import com.resourcetech.meajuda.domain.entities.SyncTombstone;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import com.resourcetech.meajuda.domain.repositories.ExpenseRepository;
+import com.resourcetech.meajuda.domain.repositories.SyncTombstoneRepository;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Expands recurring expenses into concrete occurrence rows up to a configured horizon, so clients
+ * read upcoming occurrences with plain range queries. Each recurring expense remembers the next
+ * date it still has to produce, so a pass only touches series that reach into the horizon and
+ * never regenerates an occurrence. Occurrences are created unposted: they only credit budgets and
+ * monthly rollups once they fall due, when a later pass posts them. Like every other expense
+ * writer, a pass bumps a user's collection versions before it touches that user's rows, which
+ * serializes it with concurrent edits of the same series.
+ */
+@Service
+public class RecurringExpenseMaterializer {
+    private static final Logger logger = LoggerFactory.getLogger(RecurringExpenseMaterializer.class);
+
+    private final ExpenseRepository expenseRepository;
+    private final BudgetRepository budgetRepository;
+    private final ExpenseRollupService expenseRollupService;
+    private final CollectionVersionService collectionVersionService;
+    private final ExpenseOutbox expenseOutbox;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final AppProperties appProperties;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public RecurringExpenseMaterializer(
+            ExpenseRepository expenseRepository,
+            BudgetRepository budgetRepository,
+            ExpenseRollupService expenseRollupService,
+            CollectionVersionService collectionVersionService,
+            ExpenseOutbox expenseOutbox,
+            SyncTombstoneRepository syncTombstoneRepository,
+            AppProperties appProperties,
+            EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.expenseRepository = expenseRepository;
+        this.budgetRepository = budgetRepository;
+        this.expenseRollupService = expenseRollupService;
+        this.collectionVersionService = collectionVersionService;
+        this.expenseOutbox = expenseOutbox;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.appProperties = appProperties;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Materializes every occurrence up to the horizon after {@code now} of the series owned by
+     * users in {@code [fromUserId, toUserId]}, then posts the unposted occurrences of those users
+     * that are due by {@code now}. Returns the number of occurrences created. A series seen for
+     * the first time starts after its latest occurrence or {@code now}, whichever is later; past
+     * occurrences are never backfilled. Occurrences that already exist are skipped.
+     */
+    @Transactional
+    public int materialize(Long fromUserId, Long toUserId, LocalDateTime now) {
+        LocalDateTime horizon = now.plusDays(appProperties.getRecurrence().getHorizonDays());
+        Map<Long, Long> changeSeqs = bumpVersions(fromUserId, toUserId, now, horizon);
+        if (changeSeqs.isEmpty()) {
+            return 0;
+        }
+
+        int created = 0;
+        long afterId = 0;
+        List<Expense> templates;
+        do {
+            templates = expenseRepository.findRecurringDue(
+                    fromUserId, toUserId, horizon, afterId, Limit.of(batchSize));
+            if (templates.isEmpty()) {
+                break;
+            }
+            created += materializeBatch(templates, now, horizon, changeSeqs);
+            afterId = templates.get(templates.size() - 1).getId();
+        } while (templates.size() == batchSize);
+
+        afterId = 0;
+        List<Expense> due;
+        do {
+            due = expenseRepository.findUnpostedDue(fromUserId, toUserId, now, afterId, Limit.of(batchSize));
+            if (due.isEmpty()) {
+                break;
+            }
+            postBatch(due, changeSeqs);
+            afterId = due.get(due.size() - 1).getId();
+        } while (due.size() == batchSize);
+        return created;
+    }
+
+    /**
+     * Bumps the versions of every user in the range with a series to extend or an occurrence to
+     * post, before any of their expenses is read. Expense writers bump first too, so a pass waits
+     * for edits in flight and never works from a template or occurrence that is being changed.
+     * Returns the new change sequence of each user.
+     */
+    private Map<Long, Long> bumpVersions(Long fromUserId, Long toUserId, LocalDateTime now, LocalDateTime horizon) {
+        Set<Long> userIds = new TreeSet<>(expenseRepository.findUserIdsWithRecurringDue(fromUserId, toUserId, horizon));
+        Set<Long> budgetUsers = new HashSet<>();
+        for (Object[] row : expenseRepository.countUnpostedDueByUser(fromUserId, toUserId, now)) {
+            userIds.add((Long) row[0]);
+            if ((Long) row[1] > 0) {
+                budgetUsers.add((Long) row[0]);
+            }
+        }
+        Map<Long, Long> changeSeqs = new HashMap<>();
+        for (Long userId : userIds) {
+            changeSeqs.put(userId, budgetUsers.contains(userId)
+                    ? collectionVersionService.bump(userId, VersionedCollection.EXPENSES, VersionedCollection.BUDGETS)
+                    : collectionVersionService.bump(userId, VersionedCollection.EXPENSES));
+        }
+        return changeSeqs;
+    }
+
+    /**
+     * Creates the occurrences of a batch of series. A series whose user was not bumped became
+     * due after the pass started and is left for the next pass.
+     */
+    private int materializeBatch(List<Expense> templates, LocalDateTime now, LocalDateTime horizon,
+                                 Map<Long, Long> changeSeqs) {
+        Map<Long, LocalDateTime> latestOccurrences = latestOccurrences(templates);
+        List<Expense> candidates = new ArrayList<>();
+
+        for (Expense template : templates) {
+            if (!changeSeqs.containsKey(template.getUser().getId())) {
+                continue;
+            }
+            var period = RecurrencePeriod.parse(template.getRecurrencePeriod());
+            if (period.isEmpty()) {
+                logger.debug("Skipping expense {} with unknown recurrence period {}",
+                        template.getId(), template.getRecurrencePeriod());
+                continue;
+            }
+
+            LocalDateTime anchor = template.getExpenseDate();
+            LocalDateTime next = template.getNextOccurrenceDate();
+            if (next == null) {
+                LocalDateTime latest = latestOccurrences.getOrDefault(template.getId(), anchor);
+                next = period.get().firstOccurrenceAfter(anchor, latest.isAfter(now) ? latest : now);
+            }
+            while (!next.isAfter(horizon)) {
+                candidates.add(occurrenceOf(template, next));
+                next = period.get().firstOccurrenceAfter(anchor, next);
+            }
+            expenseRepository.updateNextOccurrenceDate(template.getId(), next);
+        }
+
+        List<Expense> occurrences = withoutExisting(candidates);
+        occurrences.forEach(occurrence -> occurrence.setChangeSeq(changeSeqs.get(occurrence.getUser().getId())));
+        expenseRepository.saveAll(occurrences);
+        entityManager.flush();
+        entityManager.clear();
+        return occurrences.size();
+    }
+
+    /**
+     * Credits the budgets and rollups of due occurrences and marks them posted. As with series,
+     * occurrences of users that were not bumped are left for the next pass.
+     */
+    private void postBatch(List<Expense> due, Map<Long, Long> changeSeqs) {
+        List<Expense> posted = due.stream()
+                .filter(occurrence -> changeSeqs.containsKey(occurrence.getUser().getId()))
+                .toList();
+        Map<BudgetKey, BigDecimal> spentByBudget = new HashMap<>();
+        Map<RollupKey, RollupDelta> rollups = new HashMap<>();
+        for (Expense occurrence : posted) {
+            Long userId = occurrence.getUser().getId();
+            if (occurrence.getBudget() != null) {
+                spentByBudget.merge(new BudgetKey(userId, occurrence.getBudget().getId()),
+                        occurrence.getAmount(), BigDecimal::add);
+            }
+            rollups.merge(new RollupKey(userId, ExpenseRollupService.yearMonthOf(occurrence.getExpenseDate()),
+                    occurrence.getCategory()), new RollupDelta(occurrence.getAmount(), 1), RollupDelta::plus);
+        }
+
+        spentByBudget.forEach((key, delta) -> budgetRepository.addToCurrentSpent(
+                key.budgetId(), key.userId(), delta, changeSeqs.get(key.userId())));
+        rollups.forEach((key, delta) -> expenseRollupService.apply(
+                key.userId(), key.yearMonth(), key.category(), delta.amount(), delta.count()));
+        expenseOutbox.recordAll(posted);
+        if (!posted.isEmpty()) {
+            expenseRepository.markPosted(posted.stream().map(Expense::getId).toList());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Drops candidates whose (series, date) already exists, so an occurrence that is already
+     * there (for example one created before a template edit reset its schedule) is skipped
+     * instead of failing the unique index and with it the whole partition.
+     */
+    private List<Expense> withoutExisting(List<Expense> candidates) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        Set<Long> sourceIds = new HashSet<>();
+        LocalDateTime from = null;
+        for (Expense candidate : candidates) {
+            sourceIds.add(candidate.getRecurrenceSourceId());
+            if (from == null || candidate.getExpenseDate().isBefore(from)) {
+                from = candidate.getExpenseDate();
+            }
+        }
+        Set<OccurrenceKey> existing = new HashSet<>();
+        for (Object[] row : expenseRepository.findOccurrenceDates(sourceIds, from)) {
+            existing.add(new OccurrenceKey((Long) row[0], (LocalDateTime) row[1]));
+        }
+        if (existing.isEmpty()) {
+            return candidates;
+        }
+        return candidates.stream()
+                .filter(candidate -> !existing.contains(
+                        new OccurrenceKey(candidate.getRecurrenceSourceId(), candidate.getExpenseDate())))
+                .toList();
+    }
+
+    /**
+     * Removes the occurrences of a series dated after {@code now}, debiting the budgets and
+     * rollups of those already posted, and moves the series back so they are created again from
+     * the edited expense on the next pass. Called before a recurring expense is edited or
+     * deleted, so upcoming occurrences do not keep the old amount and budget; the caller saves or
+     * deletes {@code template} afterwards.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int discardUpcoming(Long userId, Expense template, LocalDateTime now) {
+        List<Expense> upcoming = expenseRepository.findByRecurrenceSourceIdAndExpenseDateAfter(template.getId(), now);
+        if (upcoming.isEmpty()) {
+            return 0;
+        }
+        boolean budgeted = upcoming.stream()
+                .anyMatch(occurrence -> occurrence.isPosted() && occurrence.getBudget() != null);
+        long changeSeq = budgeted
+                ? collectionVersionService.bump(userId, VersionedCollection.EXPENSES, VersionedCollection.BUDGETS)
+                : collectionVersionService.bump(userId, VersionedCollection.EXPENSES);
+        for (Expense occurrence : upcoming) {
+            if (occurrence.isPosted()) {
+                if (occurrence.getBudget() != null) {
+                    budgetRepository.addToCurrentSpent(
+                            occurrence.getBudget().getId(), userId, occurrence.getAmount().negate(), changeSeq);
+                    expenseOutbox.recordRemoval(
+                            userId, occurrence.getId(), occurrence.getBudget().getId(), occurrence.getAmount());
+                }
+                expenseRollupService.remove(userId,
+                        occurrence.getExpenseDate(), occurrence.getCategory(), occurrence.getAmount());
+            }
+            syncTombstoneRepository.save(new SyncTombstone(
+                    userId, VersionedCollection.EXPENSES, occurrence.getId(), changeSeq));
+        }
+        expenseRepository.deleteAllInBatch(upcoming);
+
+        LocalDateTime next = template.getNextOccurrenceDate();
+        if (next != null && next.isAfter(now)) {
+            RecurrencePeriod.parse(template.getRecurrencePeriod()).ifPresent(period ->
+                    template.setNextOccurrenceDate(period.firstOccurrenceAfter(template.getExpenseDate(), now)));
+        }
+        return upcoming.size();
+    }
+
+    private Map<Long, LocalDateTime> latestOccurrences(List<Expense> templates) {
+        List<Long> unresolved = templates.stream()
+                .filter(template -> template.getNextOccurrenceDate() == null)
+                .map(Expense::getId)
+                .toList();
+        Map<Long, LocalDateTime> latest = new HashMap<>();
+        if (!unresolved.isEmpty()) {
+            for (Object[] row : expenseRepository.findLatestOccurrences(unresolved)) {
+                latest.put((Long) row[0], (LocalDateTime) row[1]);
+            }
+        }
+        return latest;
+    }
+
+    private static Expense occurrenceOf(Expense template, LocalDateTime date) {
+        var expense = new Expense();
+        expense.setDescription(template.getDescription());
+        expense.setAmount(template.getAmount());
+        expense.setExpenseDate(date);
+        expense.setCategory(template.getCategory());
+        expense.setPaymentMethod(template.getPaymentMethod());
+        expense.setUser(template.getUser());
+        expense.setBudget(template.getBudget());
+        expense.setRecurrenceSourceId(template.getId());
+        expense.setPosted(false);
+        return expense;
+    }
+
+    private record OccurrenceKey(Long sourceId, LocalDateTime date) {
+    }
+
+    private record BudgetKey(Long userId, Long budgetId) {
+    }
+
+    private record RollupKey(Long userId, String yearMonth, String category) {
+    }
+
+    private record RollupDelta(BigDecimal amount, long count) {
+        RollupDelta plus(RollupDelta other) {
+            return new RollupDelta(amount.add(other.amount), count + other.count);
+        }
+    }
+}
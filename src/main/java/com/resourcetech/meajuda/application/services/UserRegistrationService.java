@@ -0,0 +1,30 @@
+package com.resourcetech.meajuda.application.services;
+
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Creates a user together with their collection versions row, so a failure between the two
+ * inserts can never leave an account whose sync cursors and ETags have nothing to read. Callers
+ * hash passwords before calling in, keeping the transaction short.
+ */
+@Service
+public class UserRegistrationService {
+
+    private final UserRepository userRepository;
+    private final CollectionVersionService collectionVersionService;
+
+    public UserRegistrationService(UserRepository userRepository, CollectionVersionService collectionVersionService) {
+        this.userRepository = userRepository;
+        this.collectionVersionService = collectionVersionService;
+    }
+
+    @Transactional
+    public User register(User user) {
+        User saved = userRepository.save(user);
+        collectionVersionService.create(saved.getId());
+        return saved;
+    }
+}
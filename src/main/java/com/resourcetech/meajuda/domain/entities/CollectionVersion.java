@@ -0,0 +1,45 @@
+package com.resourcetech.meajuda.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "collection_versions")
+public class CollectionVersion {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "expenses_version", nullable = false)
+    private long expensesVersion;
+
+    @Column(name = "budgets_version", nullable = false)
+    private long budgetsVersion;
+
+    @Column(name = "goals_version", nullable = false)
+    private long goalsVersion;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    public long versionOf(VersionedCollection collection) {
+        return switch (collection) {
+            case EXPENSES -> expensesVersion;
+            case BUDGETS -> budgetsVersion;
+            case GOALS -> goalsVersion;
+        };
+    }
+
+    public void bump(VersionedCollection collection) {
+        switch (collection) {
+            case EXPENSES -> expensesVersion++;
+            case BUDGETS -> budgetsVersion++;
+            case GOALS -> goalsVersion++;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -14,7 +16,8 @@ import java.time.LocalDateTime;
 @Table(name = "expenses")
 public class Expense {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expenses_seq")
+    @SequenceGenerator(name = "expenses_seq", sequenceName = "expenses_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -31,12 +34,19 @@ public class Expense {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "budget_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Budget budget;
 
+    @Column(name = "budget_id", insertable = false, updatable = false)
+    private Long budgetId;
+
     @Column(name = "payment_method")
     private String paymentMethod;
 
@@ -45,4 +55,16 @@ public class Expense {
 
     @Column(name = "recurrence_period")
     private String recurrencePeriod;
+
+    @Column(name = "recurrence_source_id")
+    private Long recurrenceSourceId;
+
+    @Column(name = "next_occurrence_date")
+    private LocalDateTime nextOccurrenceDate;
+
+    @Column(nullable = false)
+    private boolean posted = true;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
 } 
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.resourcetech.meajuda.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "expense_monthly_rollup")
+public class ExpenseMonthlyRollup {
+    @EmbeddedId
+    private ExpenseMonthlyRollupId id;
+
+    @Column(nullable = false)
+    private BigDecimal total = BigDecimal.ZERO;
+
+    @Column(name = "expense_count", nullable = false)
+    private long expenseCount;
+}
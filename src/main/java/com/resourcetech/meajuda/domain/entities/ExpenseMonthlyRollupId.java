@@ -0,0 +1,23 @@
+package com.resourcetech.meajuda.domain.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class ExpenseMonthlyRollupId implements Serializable {
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "year_month", nullable = false, length = 7)
+    private String yearMonth;
+
+    @Column(nullable = false)
+    private String category;
+}
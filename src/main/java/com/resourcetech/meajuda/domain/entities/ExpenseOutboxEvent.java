@@ -0,0 +1,44 @@
+package com.resourcetech.meajuda.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * An expense recorded against a budget, written in the same transaction as the expense and
+ * consumed by the budget alert dispatcher.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "expense_outbox")
+public class ExpenseOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_outbox_seq")
+    @SequenceGenerator(name = "expense_outbox_seq", sequenceName = "expense_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expense_id", nullable = false)
+    private Long expenseId;
+
+    @Column(name = "budget_id", nullable = false)
+    private Long budgetId;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    public static ExpenseOutboxEvent of(Expense expense) {
+        return new ExpenseOutboxEvent(null, expense.getUser().getId(), expense.getId(),
+                expense.getBudget().getId(), expense.getAmount(), LocalDateTime.now());
+    }
+}
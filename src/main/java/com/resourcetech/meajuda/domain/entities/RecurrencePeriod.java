@@ -0,0 +1,68 @@
+package com.resourcetech.meajuda.domain.entities;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Optional;
+
+public enum RecurrencePeriod {
+    DAILY,
+    WEEKLY,
+    BIWEEKLY,
+    MONTHLY,
+    QUARTERLY,
+    YEARLY;
+
+    public static Optional<RecurrencePeriod> parse(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the {@code n}-th occurrence after {@code anchor}. Always stepping from the anchor keeps
+     * month-end dates stable (Jan 31 gives Feb 28 and then Mar 31, not Mar 28).
+     */
+    public LocalDateTime occurrence(LocalDateTime anchor, long n) {
+        return switch (this) {
+            case DAILY -> anchor.plusDays(n);
+            case WEEKLY -> anchor.plusWeeks(n);
+            case BIWEEKLY -> anchor.plusWeeks(2 * n);
+            case MONTHLY -> anchor.plusMonths(n);
+            case QUARTERLY -> anchor.plusMonths(3 * n);
+            case YEARLY -> anchor.plusYears(n);
+        };
+    }
+
+    /**
+     * Returns the first occurrence of the series anchored at {@code anchor} that falls strictly
+     * after {@code after}.
+     */
+    public LocalDateTime firstOccurrenceAfter(LocalDateTime anchor, LocalDateTime after) {
+        long n = Math.max(1, stepsBetween(anchor, after));
+        while (n > 1 && occurrence(anchor, n - 1).isAfter(after)) {
+            n--;
+        }
+        LocalDateTime next = occurrence(anchor, n);
+        while (!next.isAfter(after)) {
+            next = occurrence(anchor, ++n);
+        }
+        return next;
+    }
+
+    private long stepsBetween(LocalDateTime from, LocalDateTime to) {
+        return switch (this) {
+            case DAILY -> ChronoUnit.DAYS.between(from, to);
+            case WEEKLY -> ChronoUnit.WEEKS.between(from, to);
+            case BIWEEKLY -> ChronoUnit.WEEKS.between(from, to) / 2;
+            case MONTHLY -> ChronoUnit.MONTHS.between(from, to);
+            case QUARTERLY -> ChronoUnit.MONTHS.between(from, to) / 3;
+            case YEARLY -> ChronoUnit.YEARS.between(from, to);
+        };
+    }
+}
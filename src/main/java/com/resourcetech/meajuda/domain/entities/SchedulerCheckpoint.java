@@ -0,0 +1,26 @@
+package com.resourcetech.meajuda.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "scheduler_checkpoints")
+public class SchedulerCheckpoint {
+    @Id
+    private String name;
+
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -3,15 +3,23 @@ package com.resourcetech.meajuda.domain.entities;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
-import lombok.Data;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.AllArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import java.util.HashSet;
 import java.util.Set;
 
-@Data
+/**
+ * Account root. The owned collections are inverse, uncascaded and never part of
+ * {@code equals}, {@code hashCode} or {@code toString}, so handling a user never loads them;
+ * budgets, goals and expenses are always read through their own repositories.
+ */
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
-@AllArgsConstructor
 @Entity
 @Table(name = "users", uniqueConstraints = {
     @UniqueConstraint(columnNames = "email")
@@ -28,6 +36,7 @@ public class User {
     @NotNull
     private String email;
 
+    @ToString.Exclude
     private String password;
 
     private String phone;
@@ -48,17 +57,39 @@ public class User {
     @Column(name = "provider_id")
     private String providerId;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "user")
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
     private Set<Budget> budgets = new HashSet<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "user")
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
     private Set<FinancialGoal> goals = new HashSet<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "user")
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
     private Set<Expense> expenses = new HashSet<>();
 
     private String imageUrl;
 
     @Column(nullable = false)
     private Boolean emailVerified = false;
-} 
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof User other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return User.class.hashCode();
+    }
+}
@@ -0,0 +1,17 @@
+package com.resourcetech.meajuda.domain.entities;
+
+public enum VersionedCollection {
+    EXPENSES("expenses_version"),
+    BUDGETS("budgets_version"),
+    GOALS("goals_version");
+
+    private final String column;
+
+    VersionedCollection(String column) {
+        this.column = column;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+}
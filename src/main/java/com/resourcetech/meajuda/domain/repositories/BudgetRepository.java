@@ -1,10 +1,72 @@
 package com.resourcetech.meajuda.domain.repositories;
 
+import com.resourcetech.meajuda.application.dtos.BudgetDto;
+import com.resourcetech.meajuda.application.dtos.BudgetUtilisationDto;
 import com.resourcetech.meajuda.domain.entities.Budget;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
     List<Budget> findByUserId(Long userId);
     List<Budget> findByUserIdAndCategory(Long userId, String category);
-} 
\ No newline at end of file
+    Optional<Budget> findByIdAndUserId(Long id, Long userId);
+    List<Budget> findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(
+            Long userId, long fromSeq, long toSeq, Limit limit);
+
+    @Query("""
+            select new com.resourcetech.meajuda.application.dtos.BudgetDto(
+                b.id, b.name, b.amount, b.startDate, b.endDate, b.category, b.currentSpent)
+            from Budget b
+            where b.user.id = :userId
+            order by b.id
+            """)
+    List<BudgetDto> findDtosByUserId(Long userId);
+
+    @Query("""
+            select new com.resourcetech.meajuda.application.dtos.BudgetDto(
+                b.id, b.name, b.amount, b.startDate, b.endDate, b.category, b.currentSpent)
+            from Budget b
+            where b.id = :id and b.user.id = :userId
+            """)
+    Optional<BudgetDto> findDtoByIdAndUserId(Long id, Long userId);
+
+    @Query("""
+            select new com.resourcetech.meajuda.application.dtos.BudgetUtilisationDto(
+                b.id, b.name, b.category, b.amount, b.startDate, b.endDate,
+                coalesce(sum(e.amount), 0), b.amount - coalesce(sum(e.amount), 0), count(e.id))
+            from Budget b
+            left join Expense e on e.budget.id = b.id and e.posted = true
+                and (b.startDate is null or cast(e.expenseDate as LocalDate) >= b.startDate)
+                and (b.endDate is null or cast(e.expenseDate as LocalDate) <= b.endDate)
+            where b.user.id = :userId
+            group by b.id, b.name, b.category, b.amount, b.startDate, b.endDate
+            order by b.id
+            """)
+    List<BudgetUtilisationDto> findUtilisationByUserId(Long userId);
+
+    @Modifying
+    @Query("delete from Budget b where b.id = :id and b.user.id = :userId")
+    int deleteByIdAndUserId(Long id, Long userId);
+
+    @Modifying
+    @Query("""
+            update Budget b set b.currentSpent = coalesce(b.currentSpent, 0) + :delta, b.changeSeq = :changeSeq
+            where b.id = :budgetId and b.user.id = :userId
+            """)
+    int addToCurrentSpent(Long budgetId, Long userId, BigDecimal delta, long changeSeq);
+
+    @Modifying
+    @Query("""
+            update Budget b
+            set b.currentSpent = coalesce((select sum(e.amount) from Expense e where e.budget.id = b.id and e.posted = true), 0),
+                b.changeSeq = coalesce((select v.changeSeq from CollectionVersion v where v.userId = b.user.id), 0)
+            where b.currentSpent is null
+               or b.currentSpent <> coalesce((select sum(e.amount) from Expense e where e.budget.id = b.id and e.posted = true), 0)
+            """)
+    int reconcileCurrentSpent();
+}
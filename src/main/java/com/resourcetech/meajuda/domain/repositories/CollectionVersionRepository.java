@@ -0,0 +1,20 @@
+package com.resourcetech.meajuda.domain.repositories;
+
+import com.resourcetech.meajuda.domain.entities.CollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface CollectionVersionRepository extends JpaRepository<CollectionVersion, Long> {
+
+    @Modifying
+    @Query("""
+            update CollectionVersion v
+            set v.budgetsVersion = v.budgetsVersion + 1, v.changeSeq = v.changeSeq + 1
+            where v.userId in (
+                select b.user.id from Budget b
+                where b.currentSpent is null
+                   or b.currentSpent <> coalesce((select sum(e.amount) from Expense e where e.budget.id = b.id and e.posted = true), 0))
+            """)
+    int bumpBudgetsOfDriftedUsers();
+}
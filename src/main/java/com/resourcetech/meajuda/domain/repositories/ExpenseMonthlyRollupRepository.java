@@ -0,0 +1,59 @@
+package com.resourcetech.meajuda.domain.repositories;
+
+import com.resourcetech.meajuda.application.dtos.MonthlyCategoryTotalDto;
+import com.resourcetech.meajuda.domain.entities.ExpenseMonthlyRollup;
+import com.resourcetech.meajuda.domain.entities.ExpenseMonthlyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface ExpenseMonthlyRollupRepository extends JpaRepository<ExpenseMonthlyRollup, ExpenseMonthlyRollupId> {
+
+    @Query("""
+            select new com.resourcetech.meajuda.application.dtos.MonthlyCategoryTotalDto(
+                r.id.yearMonth, r.id.category, r.total, r.expenseCount)
+            from ExpenseMonthlyRollup r
+            where r.id.userId = :userId and r.id.yearMonth between :fromMonth and :toMonth and r.expenseCount > 0
+            order by r.id.yearMonth, r.id.category
+            """)
+    List<MonthlyCategoryTotalDto> findTrend(Long userId, String fromMonth, String toMonth);
+
+    @Modifying
+    @Query(value = """
+            insert into expense_monthly_rollup (user_id, year_month, category, total, expense_count)
+            values (:userId, :yearMonth, :category, :amount, :count)
+            on conflict (user_id, year_month, category) do update
+            set total = expense_monthly_rollup.total + excluded.total,
+                expense_count = expense_monthly_rollup.expense_count + excluded.expense_count
+            """, nativeQuery = true)
+    int upsertBucketPostgres(Long userId, String yearMonth, String category, BigDecimal amount, long count);
+
+    @Modifying
+    @Query(value = """
+            merge into expense_monthly_rollup r
+            using (select cast(:userId as bigint) as user_id, cast(:yearMonth as varchar(7)) as year_month,
+                          cast(:category as varchar(255)) as category, cast(:amount as numeric(38, 2)) as total,
+                          cast(:count as bigint) as expense_count) d
+            on r.user_id = d.user_id and r.year_month = d.year_month and r.category = d.category
+            when matched then update set total = r.total + d.total, expense_count = r.expense_count + d.expense_count
+            when not matched then insert (user_id, year_month, category, total, expense_count)
+                values (d.user_id, d.year_month, d.category, d.total, d.expense_count)
+            """, nativeQuery = true)
+    int mergeBucket(Long userId, String yearMonth, String category, BigDecimal amount, long count);
+
+    @Modifying
+    @Query(value = "delete from expense_monthly_rollup where user_id = :userId", nativeQuery = true)
+    int deleteByUserId(Long userId);
+
+    @Modifying
+    @Query(value = """
+            insert into expense_monthly_rollup (user_id, year_month, category, total, expense_count)
+            select user_id, to_char(expense_date, 'YYYY-MM'), category, sum(amount), count(*)
+            from expenses
+            where user_id = :userId and posted = true
+            group by user_id, to_char(expense_date, 'YYYY-MM'), category
+            """, nativeQuery = true)
+    int rebuildForUser(Long userId);
+}
@@ -0,0 +1,20 @@
+package com.resourcetech.meajuda.domain.repositories;
+
+import com.resourcetech.meajuda.domain.entities.ExpenseOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.List;
+
+public interface ExpenseOutboxEventRepository extends JpaRepository<ExpenseOutboxEvent, Long> {
+
+    // A lock timeout of -2 asks Hibernate for SKIP LOCKED where the database supports it.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from ExpenseOutboxEvent e order by e.id")
+    List<ExpenseOutboxEvent> findBatchForUpdate(Limit limit);
+}
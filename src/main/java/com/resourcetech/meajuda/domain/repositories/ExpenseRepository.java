@@ -1,13 +1,156 @@
 package com.resourcetech.meajuda.domain.repositories;
 
+import com.resourcetech.meajuda.application.dtos.BudgetExpenseSummaryDto;
+import com.resourcetech.meajuda.application.dtos.ExpenseDto;
+import com.resourcetech.meajuda.application.dtos.ExpenseSummaryDto;
+import com.resourcetech.meajuda.application.dtos.MonthlyExpenseSummaryDto;
 import com.resourcetech.meajuda.domain.entities.Expense;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     List<Expense> findByUserId(Long userId);
     List<Expense> findByUserIdAndCategory(Long userId, String category);
     List<Expense> findByUserIdAndExpenseDateBetween(Long userId, LocalDateTime startDate, LocalDateTime endDate);
     List<Expense> findByBudgetId(Long budgetId);
-} 
\ No newline at end of file
+    Optional<Expense> findByIdAndUserId(Long id, Long userId);
+    Optional<ExpenseView> findViewByIdAndUserId(Long id, Long userId);
+    List<Expense> findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(
+            Long userId, long fromSeq, long toSeq, Limit limit);
+
+    Window<ExpenseView> findByUserIdOrderByExpenseDateDescIdDesc(Long userId, ScrollPosition position, Limit limit);
+    Window<ExpenseView> findByUserIdAndCategoryOrderByExpenseDateDescIdDesc(
+            Long userId, String category, ScrollPosition position, Limit limit);
+    Window<ExpenseView> findByUserIdAndExpenseDateBetweenOrderByExpenseDateDescIdDesc(
+            Long userId, LocalDateTime startDate, LocalDateTime endDate, ScrollPosition position, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.resourcetech.meajuda.application.dtos.ExpenseDto(
+                e.id, e.description, e.amount, e.expenseDate, e.category, e.budget.id,
+                e.paymentMethod, e.isRecurring, e.recurrencePeriod)
+            from Expense e
+            where e.user.id = :userId
+            order by e.expenseDate desc, e.id desc
+            """)
+    Stream<ExpenseDto> streamByUserId(Long userId);
+
+    @Query("""
+            select new com.resourcetech.meajuda.application.dtos.ExpenseSummaryDto(
+                e.category, sum(e.amount), count(e))
+            from Expense e
+            where e.user.id = :userId and e.expenseDate between :startDate and :endDate
+            group by e.category
+            order by sum(e.amount) desc
+            """)
+    List<ExpenseSummaryDto> summarizeByCategory(Long userId, LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("""
+            select new com.resourcetech.meajuda.application.dtos.ExpenseSummaryDto(
+                e.paymentMethod, sum(e.amount), count(e))
+            from Expense e
+            where e.user.id = :userId and e.expenseDate between :startDate and :endDate
+            group by e.paymentMethod
+            order by sum(e.amount) desc
+            """)
+    List<ExpenseSummaryDto> summarizeByPaymentMethod(Long userId, LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("""
+            select new com.resourcetech.meajuda.application.dtos.MonthlyExpenseSummaryDto(
+                year(e.expenseDate), month(e.expenseDate), sum(e.amount), count(e))
+            from Expense e
+            where e.user.id = :userId and e.expenseDate between :startDate and :endDate
+            group by year(e.expenseDate), month(e.expenseDate)
+            order by year(e.expenseDate), month(e.expenseDate)
+            """)
+    List<MonthlyExpenseSummaryDto> summarizeByMonth(Long userId, LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("""
+            select new com.resourcetech.meajuda.application.dtos.BudgetExpenseSummaryDto(
+                b.id, b.name, sum(e.amount), count(e))
+            from Expense e
+            left join e.budget b
+            where e.user.id = :userId and e.expenseDate between :startDate and :endDate
+            group by b.id, b.name
+            order by sum(e.amount) desc
+            """)
+    List<BudgetExpenseSummaryDto> summarizeByBudget(Long userId, LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("""
+            select e from Expense e
+            where e.user.id between :fromUserId and :toUserId
+              and e.isRecurring = true and e.recurrencePeriod is not null
+              and (e.nextOccurrenceDate is null or e.nextOccurrenceDate <= :horizon)
+              and e.id > :afterId
+            order by e.id
+            """)
+    List<Expense> findRecurringDue(
+            Long fromUserId, Long toUserId, LocalDateTime horizon, Long afterId, Limit limit);
+
+    @Query("""
+            select distinct e.user.id from Expense e
+            where e.user.id between :fromUserId and :toUserId
+              and e.isRecurring = true and e.recurrencePeriod is not null
+              and (e.nextOccurrenceDate is null or e.nextOccurrenceDate <= :horizon)
+            """)
+    List<Long> findUserIdsWithRecurringDue(Long fromUserId, Long toUserId, LocalDateTime horizon);
+
+    @Modifying
+    @Query("update Expense e set e.nextOccurrenceDate = :next where e.id = :id")
+    int updateNextOccurrenceDate(Long id, LocalDateTime next);
+
+    @Query("""
+            select e.user.id, count(e.budgetId)
+            from Expense e
+            where e.user.id between :fromUserId and :toUserId
+              and e.posted = false and e.expenseDate <= :now
+            group by e.user.id
+            """)
+    List<Object[]> countUnpostedDueByUser(Long fromUserId, Long toUserId, LocalDateTime now);
+
+    @Query("""
+            select e from Expense e
+            where e.user.id between :fromUserId and :toUserId
+              and e.posted = false and e.expenseDate <= :now
+              and e.id > :afterId
+            order by e.id
+            """)
+    List<Expense> findUnpostedDue(
+            Long fromUserId, Long toUserId, LocalDateTime now, Long afterId, Limit limit);
+
+    @Modifying
+    @Query("update Expense e set e.posted = true where e.id in :ids")
+    int markPosted(Collection<Long> ids);
+
+    @Query("""
+            select e.recurrenceSourceId, e.expenseDate
+            from Expense e
+            where e.recurrenceSourceId in :sourceIds and e.expenseDate >= :from
+            """)
+    List<Object[]> findOccurrenceDates(Collection<Long> sourceIds, LocalDateTime from);
+
+    List<Expense> findByRecurrenceSourceIdAndExpenseDateAfter(Long recurrenceSourceId, LocalDateTime after);
+
+    @Query("""
+            select e.recurrenceSourceId, max(e.expenseDate)
+            from Expense e
+            where e.recurrenceSourceId in :sourceIds
+            group by e.recurrenceSourceId
+            """)
+    List<Object[]> findLatestOccurrences(Collection<Long> sourceIds);
+}
@@ -0,0 +1,29 @@
+package com.resourcetech.meajuda.domain.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Closed read-only projection of {@link com.resourcetech.meajuda.domain.entities.Expense}. Only
+ * these columns are selected and {@code budget_id} is read straight from the row, so no entity,
+ * snapshot or budget proxy is created.
+ */
+public interface ExpenseView {
+    Long getId();
+
+    String getDescription();
+
+    BigDecimal getAmount();
+
+    LocalDateTime getExpenseDate();
+
+    String getCategory();
+
+    Long getBudgetId();
+
+    String getPaymentMethod();
+
+    boolean getIsRecurring();
+
+    String getRecurrencePeriod();
+}
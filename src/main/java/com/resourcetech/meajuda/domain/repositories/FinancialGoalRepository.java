@@ -1,11 +1,49 @@
 package com.resourcetech.meajuda.domain.repositories;
 
+import com.resourcetech.meajuda.application.dtos.FinancialGoalDto;
 import com.resourcetech.meajuda.domain.entities.FinancialGoal;
 import com.resourcetech.meajuda.domain.entities.GoalStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
+import java.util.Optional;
 
 public interface FinancialGoalRepository extends JpaRepository<FinancialGoal, Long> {
     List<FinancialGoal> findByUserId(Long userId);
     List<FinancialGoal> findByUserIdAndStatus(Long userId, GoalStatus status);
+    Optional<FinancialGoal> findByIdAndUserId(Long id, Long userId);
+    List<FinancialGoal> findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(
+            Long userId, long fromSeq, long toSeq, Limit limit);
+
+    @Query("""
+            select new com.resourcetech.meajuda.application.dtos.FinancialGoalDto(
+                g.id, g.name, g.description, g.targetAmount, g.currentAmount, g.targetDate, g.status)
+            from FinancialGoal g
+            where g.user.id = :userId
+            order by g.id
+            """)
+    List<FinancialGoalDto> findDtosByUserId(Long userId);
+
+    @Query("""
+            select new com.resourcetech.meajuda.application.dtos.FinancialGoalDto(
+                g.id, g.name, g.description, g.targetAmount, g.currentAmount, g.targetDate, g.status)
+            from FinancialGoal g
+            where g.user.id = :userId and g.status = :status
+            order by g.id
+            """)
+    List<FinancialGoalDto> findDtosByUserIdAndStatus(Long userId, GoalStatus status);
+
+    @Query("""
+            select new com.resourcetech.meajuda.application.dtos.FinancialGoalDto(
+                g.id, g.name, g.description, g.targetAmount, g.currentAmount, g.targetDate, g.status)
+            from FinancialGoal g
+            where g.id = :id and g.user.id = :userId
+            """)
+    Optional<FinancialGoalDto> findDtoByIdAndUserId(Long id, Long userId);
+
+    @Modifying
+    @Query("delete from FinancialGoal g where g.id = :id and g.user.id = :userId")
+    int deleteByIdAndUserId(Long id, Long userId);
 } 
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.resourcetech.meajuda.domain.repositories;
+
+import com.resourcetech.meajuda.domain.entities.SchedulerCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import java.util.Optional;
+
+public interface SchedulerCheckpointRepository extends JpaRepository<SchedulerCheckpoint, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from SchedulerCheckpoint c where c.name = :name")
+    Optional<SchedulerCheckpoint> findForUpdate(String name);
+}
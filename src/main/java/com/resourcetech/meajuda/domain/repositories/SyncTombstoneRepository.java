@@ -0,0 +1,18 @@
+package com.resourcetech.meajuda.domain.repositories;
+
+import com.resourcetech.meajuda.domain.entities.SyncTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+    List<SyncTombstone> findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(
+            Long userId, long fromSeq, long toSeq, Limit limit);
+
+    @Modifying
+    @Query("delete from SyncTombstone t where t.deletedAt < :cutoff")
+    int deleteDeletedBefore(LocalDateTime cutoff);
+}
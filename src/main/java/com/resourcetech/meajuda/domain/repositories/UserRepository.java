@@ -1,12 +1,30 @@
 package com.resourcetech.meajuda.domain.repositories;
 
 import com.resourcetech.meajuda.domain.entities.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Boolean existsByEmail(String email);
     Optional<User> findByProviderId(String providerId);
+
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<Long> findIdsAfter(Long afterId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.name = :name, u.imageUrl = :imageUrl where u.id = :id")
+    int updateProfile(Long id, String name, String imageUrl);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(Long id, String password);
 } 
\ No newline at end of file
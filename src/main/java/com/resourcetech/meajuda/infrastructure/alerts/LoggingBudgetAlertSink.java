@@ -0,0 +1,24 @@
+package com.resourcetech.meajuda.infrastructure.alerts;
+
+import com.resourcetech.meajuda.application.events.BudgetAlert;
+import com.resourcetech.meajuda.application.events.BudgetAlertSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(prefix = "app.alerts", name = "sink", havingValue = "log", matchIfMissing = true)
+public class LoggingBudgetAlertSink implements BudgetAlertSink {
+    private static final Logger logger = LoggerFactory.getLogger(LoggingBudgetAlertSink.class);
+
+    @Override
+    public void deliver(List<BudgetAlert> alerts) {
+        for (BudgetAlert alert : alerts) {
+            logger.info("Budget {} of user {} reached {}% ({} of {})", alert.budgetId(), alert.userId(),
+                    alert.thresholdPercent(), alert.spent(), alert.amount());
+        }
+    }
+}
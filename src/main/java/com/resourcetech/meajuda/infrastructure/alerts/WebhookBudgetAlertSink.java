@@ -0,0 +1,45 @@
+package com.resourcetech.meajuda.infrastructure.alerts;
+
+import com.resourcetech.meajuda.application.events.BudgetAlert;
+import com.resourcetech.meajuda.application.events.BudgetAlertSink;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Posts each batch of alerts as a JSON array to {@code app.alerts.webhook-url}. A non-2xx
+ * response or a timeout throws, which makes the dispatcher retry the batch. The dispatcher holds
+ * the outbox row locks during delivery, so both timeouts are kept short.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.alerts", name = "sink", havingValue = "webhook")
+public class WebhookBudgetAlertSink implements BudgetAlertSink {
+
+    private final RestClient restClient;
+
+    public WebhookBudgetAlertSink(RestClient.Builder restClientBuilder, AppProperties appProperties) {
+        var alerts = appProperties.getAlerts();
+        var requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(alerts.getWebhookConnectTimeoutMs()));
+        requestFactory.setReadTimeout(Duration.ofMillis(alerts.getWebhookReadTimeoutMs()));
+        this.restClient = restClientBuilder
+                .baseUrl(alerts.getWebhookUrl())
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public void deliver(List<BudgetAlert> alerts) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(alerts)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -3,15 +3,31 @@ package com.resourcetech.meajuda.infrastructure.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
 @ConfigurationProperties(prefix = "app")
 public class AppProperties {
     private final Auth auth = new Auth();
     private final Database database = new Database();
+    private final Concurrency concurrency = new Concurrency();
+    private final Recurrence recurrence = new Recurrence();
+    private final Sync sync = new Sync();
+    private final Alerts alerts = new Alerts();
+    private final RateLimit rateLimit = new RateLimit();
 
     public static class Auth {
         private String jwtSecret;
         private long jwtExpirationMs;
+        private long principalCacheMaxSize = 10_000;
+        private long principalCacheTtlMs = 300_000;
+        private long tokenCacheMaxSize = 10_000;
+        private int bcryptStrength = 10;
+        private int hashingThreads = 0;
+        private int hashingQueueCapacity = 64;
+        private int failureLogBurst = 10;
+        private int failureLogSampleEvery = 1_000;
 
         public String getJwtSecret() {
             return jwtSecret;
@@ -28,12 +44,78 @@ public class AppProperties {
         public void setJwtExpirationMs(long jwtExpirationMs) {
             this.jwtExpirationMs = jwtExpirationMs;
         }
+
+        public long getPrincipalCacheMaxSize() {
+            return principalCacheMaxSize;
+        }
+
+        public void setPrincipalCacheMaxSize(long principalCacheMaxSize) {
+            this.principalCacheMaxSize = principalCacheMaxSize;
+        }
+
+        public long getPrincipalCacheTtlMs() {
+            return principalCacheTtlMs;
+        }
+
+        public void setPrincipalCacheTtlMs(long principalCacheTtlMs) {
+            this.principalCacheTtlMs = principalCacheTtlMs;
+        }
+
+        public long getTokenCacheMaxSize() {
+            return tokenCacheMaxSize;
+        }
+
+        public void setTokenCacheMaxSize(long tokenCacheMaxSize) {
+            this.tokenCacheMaxSize = tokenCacheMaxSize;
+        }
+
+        public int getBcryptStrength() {
+            return bcryptStrength;
+        }
+
+        public void setBcryptStrength(int bcryptStrength) {
+            this.bcryptStrength = bcryptStrength;
+        }
+
+        public int getHashingThreads() {
+            return hashingThreads;
+        }
+
+        public void setHashingThreads(int hashingThreads) {
+            this.hashingThreads = hashingThreads;
+        }
+
+        public int getHashingQueueCapacity() {
+            return hashingQueueCapacity;
+        }
+
+        public void setHashingQueueCapacity(int hashingQueueCapacity) {
+            this.hashingQueueCapacity = hashingQueueCapacity;
+        }
+
+        public int getFailureLogBurst() {
+            return failureLogBurst;
+        }
+
+        public void setFailureLogBurst(int failureLogBurst) {
+            this.failureLogBurst = failureLogBurst;
+        }
+
+        public int getFailureLogSampleEvery() {
+            return failureLogSampleEvery;
+        }
+
+        public void setFailureLogSampleEvery(int failureLogSampleEvery) {
+            this.failureLogSampleEvery = failureLogSampleEvery;
+        }
     }
 
     public static class Database {
         private String url;
         private String username;
         private String password;
+        private long slowQueryThresholdMs = 200;
+        private int slowQueryMaxShapes = 1_000;
 
         public String getUrl() {
             return url;
@@ -58,6 +140,265 @@ public class AppProperties {
         public void setPassword(String password) {
             this.password = password;
         }
+
+        public long getSlowQueryThresholdMs() {
+            return slowQueryThresholdMs;
+        }
+
+        public void setSlowQueryThresholdMs(long slowQueryThresholdMs) {
+            this.slowQueryThresholdMs = slowQueryThresholdMs;
+        }
+
+        public int getSlowQueryMaxShapes() {
+            return slowQueryMaxShapes;
+        }
+
+        public void setSlowQueryMaxShapes(int slowQueryMaxShapes) {
+            this.slowQueryMaxShapes = slowQueryMaxShapes;
+        }
+    }
+
+    public static class Concurrency {
+        private int maxInFlightRequests = 200;
+        private long acquireTimeoutMs = 1_000;
+
+        public int getMaxInFlightRequests() {
+            return maxInFlightRequests;
+        }
+
+        public void setMaxInFlightRequests(int maxInFlightRequests) {
+            this.maxInFlightRequests = maxInFlightRequests;
+        }
+
+        public long getAcquireTimeoutMs() {
+            return acquireTimeoutMs;
+        }
+
+        public void setAcquireTimeoutMs(long acquireTimeoutMs) {
+            this.acquireTimeoutMs = acquireTimeoutMs;
+        }
+    }
+
+    public static class Recurrence {
+        private int horizonDays = 60;
+        private int userPartitionSize = 500;
+
+        public int getHorizonDays() {
+            return horizonDays;
+        }
+
+        public void setHorizonDays(int horizonDays) {
+            this.horizonDays = horizonDays;
+        }
+
+        public int getUserPartitionSize() {
+            return userPartitionSize;
+        }
+
+        public void setUserPartitionSize(int userPartitionSize) {
+            this.userPartitionSize = userPartitionSize;
+        }
+    }
+
+    public static class Sync {
+        private int tombstoneRetentionDays = 90;
+
+        public int getTombstoneRetentionDays() {
+            return tombstoneRetentionDays;
+        }
+
+        public void setTombstoneRetentionDays(int tombstoneRetentionDays) {
+            this.tombstoneRetentionDays = tombstoneRetentionDays;
+        }
+    }
+
+    public static class Alerts {
+        private boolean dispatcherEnabled = true;
+        private int batchSize = 200;
+        private long pollIntervalMs = 5_000;
+        private long lingerMs = 100;
+        private String sink = "log";
+        private String webhookUrl = "http://localhost:8081/budget-alerts";
+        private long webhookConnectTimeoutMs = 2_000;
+        private long webhookReadTimeoutMs = 5_000;
+        private int maxDeliveryAttempts = 10;
+        private long maxRetryBackoffMs = 300_000;
+
+        public boolean isDispatcherEnabled() {
+            return dispatcherEnabled;
+        }
+
+        public void setDispatcherEnabled(boolean dispatcherEnabled) {
+            this.dispatcherEnabled = dispatcherEnabled;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getPollIntervalMs() {
+            return pollIntervalMs;
+        }
+
+        public void setPollIntervalMs(long pollIntervalMs) {
+            this.pollIntervalMs = pollIntervalMs;
+        }
+
+        public long getLingerMs() {
+            return lingerMs;
+        }
+
+        public void setLingerMs(long lingerMs) {
+            this.lingerMs = lingerMs;
+        }
+
+        public String getSink() {
+            return sink;
+        }
+
+        public void setSink(String sink) {
+            this.sink = sink;
+        }
+
+        public String getWebhookUrl() {
+            return webhookUrl;
+        }
+
+        public void setWebhookUrl(String webhookUrl) {
+            this.webhookUrl = webhookUrl;
+        }
+
+        public long getWebhookConnectTimeoutMs() {
+            return webhookConnectTimeoutMs;
+        }
+
+        public void setWebhookConnectTimeoutMs(long webhookConnectTimeoutMs) {
+            this.webhookConnectTimeoutMs = webhookConnectTimeoutMs;
+        }
+
+        public long getWebhookReadTimeoutMs() {
+            return webhookReadTimeoutMs;
+        }
+
+        public void setWebhookReadTimeoutMs(long webhookReadTimeoutMs) {
+            this.webhookReadTimeoutMs = webhookReadTimeoutMs;
+        }
+
+        public int getMaxDeliveryAttempts() {
+            return maxDeliveryAttempts;
+        }
+
+        public void setMaxDeliveryAttempts(int maxDeliveryAttempts) {
+            this.maxDeliveryAttempts = maxDeliveryAttempts;
+        }
+
+        public long getMaxRetryBackoffMs() {
+            return maxRetryBackoffMs;
+        }
+
+        public void setMaxRetryBackoffMs(long maxRetryBackoffMs) {
+            this.maxRetryBackoffMs = maxRetryBackoffMs;
+        }
+    }
+
+    public static class RateLimit {
+        private boolean enabled = true;
+        private long maxBuckets = 100_000;
+        private long idleEvictionMs = 600_000;
+        private Quota defaultQuota = new Quota(100, 20);
+        private List<Route> routes = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaxBuckets() {
+            return maxBuckets;
+        }
+
+        public void setMaxBuckets(long maxBuckets) {
+            this.maxBuckets = maxBuckets;
+        }
+
+        public long getIdleEvictionMs() {
+            return idleEvictionMs;
+        }
+
+        public void setIdleEvictionMs(long idleEvictionMs) {
+            this.idleEvictionMs = idleEvictionMs;
+        }
+
+        public Quota getDefaultQuota() {
+            return defaultQuota;
+        }
+
+        public void setDefaultQuota(Quota defaultQuota) {
+            this.defaultQuota = defaultQuota;
+        }
+
+        public List<Route> getRoutes() {
+            return routes;
+        }
+
+        public void setRoutes(List<Route> routes) {
+            this.routes = routes;
+        }
+    }
+
+    public static class Quota {
+        private int capacity;
+        private double refillPerSecond;
+
+        public Quota() {
+        }
+
+        public Quota(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            setRefillPerSecond(refillPerSecond);
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        /**
+         * Rejected unless positive: a bucket that never refills would lock its clients out for
+         * as long as they keep retrying, so a typo fails at startup instead.
+         */
+        public void setRefillPerSecond(double refillPerSecond) {
+            if (!(refillPerSecond > 0)) {
+                throw new IllegalArgumentException("refill-per-second must be positive, was " + refillPerSecond);
+            }
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+
+    public static class Route extends Quota {
+        private String pattern;
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
     }
 
     public Auth getAuth() {
@@ -67,4 +408,24 @@ public class AppProperties {
     public Database getDatabase() {
         return database;
     }
-} 
\ No newline at end of file
+
+    public Concurrency getConcurrency() {
+        return concurrency;
+    }
+
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    public Sync getSync() {
+        return sync;
+    }
+
+    public Alerts getAlerts() {
+        return alerts;
+    }
+
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+}
@@ -0,0 +1,21 @@
+package com.resourcetech.meajuda.infrastructure.config;
+
+import com.resourcetech.meajuda.infrastructure.web.CollectionEtagInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CollectionEtagInterceptor collectionEtagInterceptor;
+
+    public WebConfig(CollectionEtagInterceptor collectionEtagInterceptor) {
+        this.collectionEtagInterceptor = collectionEtagInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(collectionEtagInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,33 @@
+package com.resourcetech.meajuda.infrastructure.persistence;
+
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * The database behind the application {@link DataSource}, for the few statements without a
+ * portable form (atomic upserts). PostgreSQL gets {@code insert ... on conflict}; everything
+ * else, which in practice is H2, gets the standard {@code merge}.
+ */
+@Component
+public class DatabaseVendor {
+
+    private final boolean postgres;
+
+    public DatabaseVendor(DataSource dataSource) {
+        try {
+            String url = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getURL);
+            this.postgres = DatabaseDriver.fromJdbcUrl(url) == DatabaseDriver.POSTGRESQL;
+        } catch (MetaDataAccessException ex) {
+            throw new IllegalStateException("Could not determine the database vendor", ex);
+        }
+    }
+
+    public boolean isPostgres() {
+        return postgres;
+    }
+}
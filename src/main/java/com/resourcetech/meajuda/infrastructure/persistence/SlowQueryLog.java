@@ -0,0 +1,132 @@
+package com.resourcetech.meajuda.infrastructure.persistence;
+
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Logs JDBC statements that ran for at least {@code app.database.slow-query-threshold-ms} to the
+ * {@code meajuda.sql.slow} logger, which is appended asynchronously. Statements are logged by
+ * shape only: literals become {@code ?}, IN lists collapse and whitespace is normalised, and bind
+ * values are never written, just their count. Slow executions are also aggregated per shape and
+ * summarised on a fixed delay, so a hot statement shows up as one line with its totals.
+ */
+@Component
+public class SlowQueryLog implements QueryExecutionListener {
+    private static final Logger logger = LoggerFactory.getLogger("meajuda.sql.slow");
+
+    private static final String OVERFLOW_SHAPE = "<other>";
+    private static final int MAX_SHAPE_LENGTH = 2_000;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long thresholdMs;
+    private final int maxShapes;
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+
+    public SlowQueryLog(AppProperties appProperties) {
+        this.thresholdMs = appProperties.getDatabase().getSlowQueryThresholdMs();
+        this.maxShapes = appProperties.getDatabase().getSlowQueryMaxShapes();
+    }
+
+    public boolean isEnabled() {
+        return thresholdMs >= 0;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMs = execInfo.getElapsedTime();
+        if (!isEnabled() || elapsedMs < thresholdMs) {
+            return;
+        }
+        for (QueryInfo query : queryInfoList) {
+            String shape = shapeOf(query.getQuery());
+            int binds = query.getParametersList().stream().mapToInt(List::size).sum();
+            record(shape, elapsedMs);
+            logger.warn("slow_query elapsed_ms={} success={} batch_size={} binds={} shape=\"{}\"",
+                    elapsedMs, execInfo.isSuccess(), execInfo.isBatch() ? execInfo.getBatchSize() : 0, binds, shape);
+        }
+    }
+
+    /**
+     * Writes one line per shape seen since the previous summary, slowest total first, and
+     * resets the counters. Shapes that stayed quiet for a whole interval are dropped.
+     */
+    @Scheduled(fixedDelayString = "${app.database.slow-query-summary-interval-ms:60000}")
+    public void logSummary() {
+        List<ShapeSummary> summaries = new ArrayList<>();
+        shapes.forEach((shape, stats) -> {
+            long count = stats.count.sumThenReset();
+            long totalMs = stats.totalMs.sumThenReset();
+            long maxMs = stats.maxMs.getThenReset();
+            if (count == 0) {
+                shapes.remove(shape, stats);
+            } else {
+                summaries.add(new ShapeSummary(shape, count, totalMs, maxMs));
+            }
+        });
+        summaries.sort(Comparator.comparingLong(ShapeSummary::totalMs).reversed());
+        for (ShapeSummary summary : summaries) {
+            logger.info("slow_query_summary count={} total_ms={} avg_ms={} max_ms={} shape=\"{}\"",
+                    summary.count(), summary.totalMs(), summary.totalMs() / summary.count(), summary.maxMs(),
+                    summary.shape());
+        }
+    }
+
+    /**
+     * Slow execution counts per shape since the last summary.
+     */
+    public Map<String, Long> counts() {
+        Map<String, Long> counts = new HashMap<>();
+        shapes.forEach((shape, stats) -> counts.put(shape, stats.count.sum()));
+        return counts;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) : shape;
+    }
+
+    private void record(String shape, long elapsedMs) {
+        ShapeStats stats = shapes.get(shape);
+        if (stats == null) {
+            stats = shapes.computeIfAbsent(shapes.size() < maxShapes ? shape : OVERFLOW_SHAPE, key -> new ShapeStats());
+        }
+        stats.count.increment();
+        stats.totalMs.add(elapsedMs);
+        stats.maxMs.accumulate(elapsedMs);
+    }
+
+    private static final class ShapeStats {
+        final LongAdder count = new LongAdder();
+        final LongAdder totalMs = new LongAdder();
+        final LongAccumulator maxMs = new LongAccumulator(Math::max, 0);
+    }
+
+    private record ShapeSummary(String shape, long count, long totalMs, long maxMs) {
+    }
+}
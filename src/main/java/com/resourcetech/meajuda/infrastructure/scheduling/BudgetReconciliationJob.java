@@ -0,0 +1,37 @@
+package com.resourcetech.meajuda.infrastructure.scheduling;
+
+import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import com.resourcetech.meajuda.domain.repositories.CollectionVersionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Recomputes {@code budgets.current_spent} from the attached expenses in one bulk statement,
+ * correcting any drift left behind by writes that bypassed the incremental updates.
+ */
+@Component
+public class BudgetReconciliationJob {
+    private static final Logger logger = LoggerFactory.getLogger(BudgetReconciliationJob.class);
+
+    private final BudgetRepository budgetRepository;
+    private final CollectionVersionRepository collectionVersionRepository;
+
+    public BudgetReconciliationJob(
+            BudgetRepository budgetRepository, CollectionVersionRepository collectionVersionRepository) {
+        this.budgetRepository = budgetRepository;
+        this.collectionVersionRepository = collectionVersionRepository;
+    }
+
+    @Scheduled(cron = "${app.budgets.reconcile-cron:0 0 3 * * *}")
+    @Transactional
+    public void reconcile() {
+        collectionVersionRepository.bumpBudgetsOfDriftedUsers();
+        int corrected = budgetRepository.reconcileCurrentSpent();
+        if (corrected > 0) {
+            logger.warn("Corrected current_spent drift on {} budgets", corrected);
+        }
+    }
+}
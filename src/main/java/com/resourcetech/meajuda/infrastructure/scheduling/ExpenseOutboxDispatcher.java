@@ -0,0 +1,153 @@
+package com.resourcetech.meajuda.infrastructure.scheduling;
+
+import com.resourcetech.meajuda.application.events.BudgetAlert;
+import com.resourcetech.meajuda.application.events.BudgetAlertSink;
+import com.resourcetech.meajuda.application.events.ExpenseRecorded;
+import com.resourcetech.meajuda.application.services.BudgetThresholdEvaluator;
+import com.resourcetech.meajuda.domain.entities.ExpenseOutboxEvent;
+import com.resourcetech.meajuda.domain.repositories.ExpenseOutboxEventRepository;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the expense outbox on a dedicated thread, off the request path. Committed
+ * {@link ExpenseRecorded} events wake it up; after a short linger it takes the oldest batch,
+ * evaluates the thresholds of every budget in it at once, hands the alerts to the sink and
+ * deletes the batch in the same transaction. A failed delivery rolls the batch back and is
+ * retried with exponential backoff; once the same batch has failed
+ * {@code app.alerts.max-delivery-attempts} times its alerts are logged as dead letters and the
+ * batch is deleted, so one poison batch cannot block the outbox. The poll interval also picks up
+ * rows left behind by a crash.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.alerts", name = "dispatcher-enabled", matchIfMissing = true)
+public class ExpenseOutboxDispatcher implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(ExpenseOutboxDispatcher.class);
+
+    private final ExpenseOutboxEventRepository outboxRepository;
+    private final BudgetThresholdEvaluator thresholdEvaluator;
+    private final BudgetAlertSink alertSink;
+    private final AppProperties appProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore wakeUp = new Semaphore(0);
+    private int failedAttempts;
+    private volatile boolean running;
+    private Thread worker;
+
+    public ExpenseOutboxDispatcher(
+            ExpenseOutboxEventRepository outboxRepository,
+            BudgetThresholdEvaluator thresholdEvaluator,
+            BudgetAlertSink alertSink,
+            AppProperties appProperties,
+            PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.thresholdEvaluator = thresholdEvaluator;
+        this.alertSink = alertSink;
+        this.appProperties = appProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener
+    public void onExpenseRecorded(ExpenseRecorded event) {
+        wakeUp.release();
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("expense-outbox-dispatcher").daemon().start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        var alerts = appProperties.getAlerts();
+        while (running) {
+            try {
+                if (wakeUp.tryAcquire(alerts.getPollIntervalMs(), TimeUnit.MILLISECONDS)) {
+                    Thread.sleep(alerts.getLingerMs());
+                }
+                wakeUp.drainPermits();
+                int dispatched;
+                do {
+                    dispatched = dispatchBatch(alerts.getBatchSize());
+                } while (dispatched == alerts.getBatchSize() && running);
+            } catch (InterruptedException ex) {
+                return;
+            } catch (RuntimeException ex) {
+                long backoff = retryBackoffMs();
+                logger.warn("Expense outbox dispatch failed (attempt {}), retrying in {} ms",
+                        failedAttempts, backoff, ex);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    long retryBackoffMs() {
+        var alerts = appProperties.getAlerts();
+        long backoff = alerts.getPollIntervalMs() << Math.min(Math.max(failedAttempts - 1, 0), 20);
+        return Math.min(backoff, alerts.getMaxRetryBackoffMs());
+    }
+
+    int dispatchBatch(int batchSize) {
+        Integer dispatched = transactionTemplate.execute(status -> {
+            List<ExpenseOutboxEvent> events = outboxRepository.findBatchForUpdate(Limit.of(batchSize));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            Set<Long> budgetIds = events.stream()
+                    .map(ExpenseOutboxEvent::getBudgetId)
+                    .collect(Collectors.toSet());
+            List<BudgetAlert> budgetAlerts = thresholdEvaluator.evaluate(budgetIds);
+            if (!budgetAlerts.isEmpty()) {
+                deliver(budgetAlerts);
+            }
+            outboxRepository.deleteAllInBatch(events);
+            return events.size();
+        });
+        failedAttempts = 0;
+        return dispatched != null ? dispatched : 0;
+    }
+
+    private void deliver(List<BudgetAlert> budgetAlerts) {
+        try {
+            alertSink.deliver(budgetAlerts);
+        } catch (RuntimeException ex) {
+            if (++failedAttempts < appProperties.getAlerts().getMaxDeliveryAttempts()) {
+                throw ex;
+            }
+            logger.error("Dropping {} budget alerts after {} failed deliveries: {}",
+                    budgetAlerts.size(), failedAttempts, budgetAlerts, ex);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.resourcetech.meajuda.infrastructure.scheduling;
+
+import com.resourcetech.meajuda.application.services.ExpenseRollupService;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Rebuilds {@code expense_monthly_rollup} from the raw expenses one user at a time, so each
+ * rebuild is a short transaction and drift from writes that bypassed the incremental updates
+ * is corrected without locking the whole table.
+ */
+@Component
+public class ExpenseRollupRebuildJob {
+    private static final Logger logger = LoggerFactory.getLogger(ExpenseRollupRebuildJob.class);
+    private static final int USER_PAGE_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final ExpenseRollupService expenseRollupService;
+
+    public ExpenseRollupRebuildJob(UserRepository userRepository, ExpenseRollupService expenseRollupService) {
+        this.userRepository = userRepository;
+        this.expenseRollupService = expenseRollupService;
+    }
+
+    @Scheduled(cron = "${app.expenses.rollup-rebuild-cron:0 30 3 * * SUN}")
+    public void rebuild() {
+        long users = 0;
+        long afterId = 0;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(afterId, Limit.of(USER_PAGE_SIZE));
+            for (Long userId : userIds) {
+                expenseRollupService.rebuild(userId);
+                afterId = userId;
+                users++;
+            }
+        } while (userIds.size() == USER_PAGE_SIZE);
+        logger.info("Rebuilt monthly expense rollups for {} users", users);
+    }
+}
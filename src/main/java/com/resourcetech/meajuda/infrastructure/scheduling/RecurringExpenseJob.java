@@ -0,0 +1,120 @@
+package com.resourcetech.meajuda.infrastructure.scheduling;
+
+import com.resourcetech.meajuda.application.services.RecurringExpenseMaterializer;
+import com.resourcetech.meajuda.domain.entities.SchedulerCheckpoint;
+import com.resourcetech.meajuda.domain.repositories.SchedulerCheckpointRepository;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Walks the users in id-ordered partitions, materializes their upcoming recurring expenses and
+ * posts the occurrences that have fallen due since the last run. Every partition commits together
+ * with the checkpoint row, so a run that dies halfway resumes after the last committed partition.
+ * The checkpoint is locked for each partition, which also keeps concurrent instances from
+ * processing the same users twice. A partition that fails is logged and skipped, so it cannot
+ * hold back every user after it; its series and unposted occurrences are picked up by the next
+ * run.
+ */
+@Component
+public class RecurringExpenseJob {
+    static final String CHECKPOINT = "recurring-expenses";
+    private static final Logger logger = LoggerFactory.getLogger(RecurringExpenseJob.class);
+
+    private final RecurringExpenseMaterializer materializer;
+    private final SchedulerCheckpointRepository checkpointRepository;
+    private final UserRepository userRepository;
+    private final AppProperties appProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public RecurringExpenseJob(
+            RecurringExpenseMaterializer materializer,
+            SchedulerCheckpointRepository checkpointRepository,
+            UserRepository userRepository,
+            AppProperties appProperties,
+            PlatformTransactionManager transactionManager) {
+        this.materializer = materializer;
+        this.checkpointRepository = checkpointRepository;
+        this.userRepository = userRepository;
+        this.appProperties = appProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${app.recurrence.materialize-cron:0 15 2 * * *}")
+    public void run() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long created = 0;
+        while (true) {
+            Integer partitionCreated;
+            try {
+                partitionCreated = transactionTemplate.execute(status -> processPartition(startedAt));
+            } catch (RuntimeException ex) {
+                partitionCreated = transactionTemplate.execute(status -> skipPartition(ex));
+            }
+            if (partitionCreated == null) {
+                break;
+            }
+            created += partitionCreated;
+        }
+        logger.info("Materialized {} recurring expense occurrences as of {}", created, startedAt);
+    }
+
+    /**
+     * Processes the next user partition and returns the occurrences it created, or {@code null}
+     * once the pass is complete.
+     */
+    private Integer processPartition(LocalDateTime startedAt) {
+        SchedulerCheckpoint checkpoint = checkpointRepository.findForUpdate(CHECKPOINT)
+                .orElseGet(() -> new SchedulerCheckpoint(CHECKPOINT, 0L, null, null));
+        if (checkpoint.getLastUserId() == 0 && checkpoint.getCompletedAt() != null
+                && !checkpoint.getCompletedAt().isBefore(startedAt)) {
+            return null;
+        }
+
+        List<Long> userIds = userRepository.findIdsAfter(
+                checkpoint.getLastUserId(), Limit.of(appProperties.getRecurrence().getUserPartitionSize()));
+        LocalDateTime now = LocalDateTime.now();
+        checkpoint.setUpdatedAt(now);
+        if (userIds.isEmpty()) {
+            checkpoint.setLastUserId(0L);
+            checkpoint.setCompletedAt(now);
+            checkpointRepository.save(checkpoint);
+            return null;
+        }
+
+        Long lastUserId = userIds.get(userIds.size() - 1);
+        int created = materializer.materialize(userIds.get(0), lastUserId, startedAt);
+        checkpoint.setLastUserId(lastUserId);
+        checkpointRepository.save(checkpoint);
+        return created;
+    }
+
+    /**
+     * Moves the checkpoint past the partition that just failed and rolled back.
+     */
+    private Integer skipPartition(RuntimeException failure) {
+        SchedulerCheckpoint checkpoint = checkpointRepository.findForUpdate(CHECKPOINT)
+                .orElseGet(() -> new SchedulerCheckpoint(CHECKPOINT, 0L, null, null));
+        List<Long> userIds = userRepository.findIdsAfter(
+                checkpoint.getLastUserId(), Limit.of(appProperties.getRecurrence().getUserPartitionSize()));
+        if (userIds.isEmpty()) {
+            throw failure;
+        }
+        Long lastUserId = userIds.get(userIds.size() - 1);
+        logger.warn("Skipping recurring expenses of users {} to {} after a failure",
+                userIds.get(0), lastUserId, failure);
+        checkpoint.setLastUserId(lastUserId);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+        return 0;
+    }
+}
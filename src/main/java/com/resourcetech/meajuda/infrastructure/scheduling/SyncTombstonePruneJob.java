@@ -0,0 +1,38 @@
+package com.resourcetech.meajuda.infrastructure.scheduling;
+
+import com.resourcetech.meajuda.domain.repositories.SyncTombstoneRepository;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Drops sync tombstones older than the retention window. Cursors issued before the window are
+ * rejected by the sync endpoint, so no client can still need them.
+ */
+@Component
+public class SyncTombstonePruneJob {
+    private static final Logger logger = LoggerFactory.getLogger(SyncTombstonePruneJob.class);
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final AppProperties appProperties;
+
+    public SyncTombstonePruneJob(SyncTombstoneRepository syncTombstoneRepository, AppProperties appProperties) {
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.appProperties = appProperties;
+    }
+
+    @Scheduled(cron = "${app.sync.prune-cron:0 0 4 * * *}")
+    @Transactional
+    public void prune() {
+        int pruned = syncTombstoneRepository.deleteDeletedBefore(
+                LocalDateTime.now().minusDays(appProperties.getSync().getTombstoneRetentionDays()));
+        if (pruned > 0) {
+            logger.info("Pruned {} sync tombstones", pruned);
+        }
+    }
+}
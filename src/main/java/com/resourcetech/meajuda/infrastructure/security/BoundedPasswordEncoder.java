@@ -0,0 +1,97 @@
+package com.resourcetech.meajuda.infrastructure.security;
+
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs hashing and verification of the delegate on a fixed pool with a bounded queue. At most
+ * one hash per worker burns CPU at a time, so login bursts cannot starve other endpoints; once
+ * the queue is full further attempts fail fast with {@link PasswordHashingBusyException}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        var threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> Thread.ofPlatform()
+                        .name("password-hashing-" + threadCount.incrementAndGet())
+                        .daemon()
+                        .unstarted(task),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Hashes new passwords as {@code {bcrypt}} with the configured cost. Legacy unprefixed bcrypt
+     * hashes still verify, and {@link #upgradeEncoding} reports them and lower-cost hashes for
+     * rehashing.
+     */
+    public static BoundedPasswordEncoder bcrypt(AppProperties.Auth auth) {
+        var bcrypt = new BCryptPasswordEncoder(auth.getBcryptStrength());
+        var delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int threads = auth.getHashingThreads() > 0
+                ? auth.getHashingThreads()
+                : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, threads, auth.getHashingQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -2,29 +2,67 @@ package com.resourcetech.meajuda.infrastructure.security;
 
 import com.resourcetech.meajuda.domain.entities.User;
 import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+/**
+ * Loads users for authentication. Database lookups are timed as {@code auth.user.lookup}, tagged
+ * with the key used; lookups by id answered by the {@link PrincipalCache} do not reach the timer.
+ */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final Timer lookupsByEmail;
+    private final Timer lookupsById;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, PrincipalCache principalCache,
+                                    MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.lookupsByEmail = lookupTimer(meterRegistry, "email");
+        this.lookupsById = lookupTimer(meterRegistry, "id");
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String key) {
+        return Timer.builder("auth.user.lookup")
+                .description("User lookups that reached the database")
+                .tag("key", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        User user = lookupsByEmail.record(() -> userRepository.findByEmail(email))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
         return UserPrincipal.create(user);
     }
 
+    /**
+     * Called by the authentication provider after a successful login whose stored hash is
+     * outdated, with the password rehashed under the current encoding.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        var principal = (UserPrincipal) user;
+        userRepository.updatePassword(principal.getId(), newPassword);
+        principalCache.evict(principal.getId());
+        return new UserPrincipal(principal.getId(), principal.getUsername(), newPassword, principal.getAuthorities());
+    }
+
     public UserDetails loadUserById(Long id) {
-        User user = userRepository.findById(id)
+        return principalCache.get(id, this::loadPrincipalById);
+    }
+
+    private UserPrincipal loadPrincipalById(Long id) {
+        User user = lookupsById.record(() -> userRepository.findById(id))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
         return UserPrincipal.create(user);
     }
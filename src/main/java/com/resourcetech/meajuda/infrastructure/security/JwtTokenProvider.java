@@ -1,11 +1,14 @@
 package com.resourcetech.meajuda.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.resourcetech.meajuda.infrastructure.config.AppProperties;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
@@ -14,16 +17,23 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 
 @Component
 public class JwtTokenProvider {
-    private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
-
+    private static final String RESOLVED_ATTRIBUTE = JwtTokenProvider.class.getName() + ".resolved";
     private final SecretKey key;
+    private final JwtParser parser;
     private final AppProperties appProperties;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final MeterRegistry meterRegistry;
+    private final SecurityEventLog securityEventLog;
 
-    public JwtTokenProvider(AppProperties appProperties) {
+    public JwtTokenProvider(AppProperties appProperties, MeterRegistry meterRegistry,
+                            SecurityEventLog securityEventLog) {
         this.appProperties = appProperties;
+        this.meterRegistry = meterRegistry;
+        this.securityEventLog = securityEventLog;
         
         // Generate a 256-bit (32-byte) key using SHA-256
         try {
@@ -33,6 +43,15 @@ public class JwtTokenProvider {
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException("Failed to generate JWT key", e);
         }
+
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(appProperties.getAuth().getTokenCacheMaxSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified-tokens");
     }
 
     public String generateToken(Authentication authentication) {
@@ -49,34 +68,94 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public Claims parse(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
 
-        return Long.parseLong(claims.getSubject());
+    public Long getUserIdFromToken(String token) {
+        return Long.parseLong(parse(token).getSubject());
     }
 
-    public boolean validateToken(String authToken) {
+    /**
+     * Verifies the token and returns its subject, or {@code null} when the token is not valid.
+     * Tokens that verified before are answered from a cache keyed by their SHA-256 digest
+     * until they expire, skipping signature verification and claims parsing. Every rejection
+     * increments {@code auth.token.rejections} tagged with its reason and is reported to the
+     * {@link SecurityEventLog} under {@code token_<reason>}.
+     */
+    public Long resolveUserId(String authToken) {
+        if (authToken == null || authToken.isEmpty()) {
+            reject("empty");
+            return null;
+        }
+
+        String tokenHash = hash(authToken);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            if (cached.expiresAt() > System.currentTimeMillis()) {
+                return cached.userId();
+            }
+            verifiedTokens.invalidate(tokenHash);
+        }
+
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
+            Claims claims = parse(authToken);
+            Long userId = Long.parseLong(claims.getSubject());
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(tokenHash, new VerifiedToken(userId, claims.getExpiration().getTime()));
+            }
+            return userId;
         } catch (SecurityException ex) {
-            logger.error("Invalid JWT signature");
+            reject("signature");
         } catch (MalformedJwtException ex) {
-            logger.error("Invalid JWT token");
+            reject("malformed");
         } catch (ExpiredJwtException ex) {
-            logger.error("Expired JWT token");
+            reject("expired");
         } catch (UnsupportedJwtException ex) {
-            logger.error("Unsupported JWT token");
+            reject("unsupported");
+        } catch (NumberFormatException ex) {
+            reject("subject");
         } catch (IllegalArgumentException ex) {
-            logger.error("JWT claims string is empty");
+            reject("empty");
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the token at most once per request, so the rate limiter and the authentication
+     * filter share one verification and a rejected token is counted and logged once.
+     */
+    public Long resolveUserId(HttpServletRequest request, String authToken) {
+        if (request.getAttribute(RESOLVED_ATTRIBUTE) instanceof ResolvedToken resolved
+                && resolved.token().equals(authToken)) {
+            return resolved.userId();
         }
-        return false;
+        Long userId = resolveUserId(authToken);
+        request.setAttribute(RESOLVED_ATTRIBUTE, new ResolvedToken(authToken, userId));
+        return userId;
+    }
+
+    public boolean validateToken(String authToken) {
+        return resolveUserId(authToken) != null;
+    }
+
+    private void reject(String reason) {
+        meterRegistry.counter("auth.token.rejections", "reason", reason).increment();
+        securityEventLog.failure("token_" + reason);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record VerifiedToken(Long userId, long expiresAt) {
+    }
+
+    private record ResolvedToken(String token, Long userId) {
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.resourcetech.meajuda.infrastructure.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Thrown when the password hashing executor has no free worker and a full queue. Surfaces as
+ * 429 with a {@code Retry-After} hint instead of letting hash work pile up on request threads.
+ */
+public class PasswordHashingBusyException extends ResponseStatusException {
+
+    public PasswordHashingBusyException() {
+        super(HttpStatus.TOO_MANY_REQUESTS, "Too many concurrent logins, retry later.");
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return headers;
+    }
+}
@@ -0,0 +1,51 @@
+package com.resourcetech.meajuda.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-evicting cache of {@link UserPrincipal}s keyed by user id, so token
+ * authentication does not reload the user row on every request. Entries must be
+ * evicted whenever credentials or profile data of the user change. Hit, miss and eviction
+ * counts are published as {@code cache.*} metrics tagged {@code cache=principals}.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<Long, UserPrincipal> cache;
+
+    public PrincipalCache(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(appProperties.getAuth().getPrincipalCacheMaxSize())
+                .expireAfterWrite(Duration.ofMillis(appProperties.getAuth().getPrincipalCacheTtlMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    public UserPrincipal get(Long userId, Function<Long, UserPrincipal> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void evict(Long userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
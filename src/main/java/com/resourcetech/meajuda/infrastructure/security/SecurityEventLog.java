@@ -0,0 +1,75 @@
+package com.resourcetech.meajuda.infrastructure.security;
+
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate-limited log for authentication failures on the request path. Per failure type, the first
+ * {@code app.auth.failure-log-burst} occurrences in an interval are logged and after that only
+ * every {@code failure-log-sample-every}th; every occurrence is counted and the counts are written
+ * as one summary line per interval. Lines go to the {@code meajuda.security} logger, which is
+ * appended asynchronously, so a wave of expired tokens costs a counter increment per request.
+ */
+@Component
+public class SecurityEventLog {
+    private static final Logger logger = LoggerFactory.getLogger("meajuda.security");
+
+    private final int burst;
+    private final int sampleEvery;
+    private final Map<String, AtomicLong> failures = new ConcurrentHashMap<>();
+
+    public SecurityEventLog(AppProperties appProperties) {
+        this.burst = appProperties.getAuth().getFailureLogBurst();
+        this.sampleEvery = Math.max(1, appProperties.getAuth().getFailureLogSampleEvery());
+    }
+
+    public void failure(String type) {
+        failure(type, null);
+    }
+
+    /**
+     * Counts a failure and logs it if it falls within the burst or the sample. The stack trace of
+     * {@code cause} is only written when DEBUG is enabled for {@code meajuda.security}.
+     */
+    public void failure(String type, Throwable cause) {
+        long occurrence = failures.computeIfAbsent(type, key -> new AtomicLong()).incrementAndGet();
+        if (occurrence > burst && occurrence % sampleEvery != 0) {
+            return;
+        }
+        if (cause != null && logger.isDebugEnabled()) {
+            logger.warn("auth_failure type={} occurrence={}", type, occurrence, cause);
+        } else if (cause != null) {
+            logger.warn("auth_failure type={} occurrence={} cause=\"{}\"", type, occurrence, cause);
+        } else {
+            logger.warn("auth_failure type={} occurrence={}", type, occurrence);
+        }
+    }
+
+    /**
+     * Writes the failure counts of the interval that just ended and starts a new one, which also
+     * restores the burst allowance of every type. Counters are reset but never removed: failure
+     * types are a small fixed set, and removing one could drop an increment made by a request that
+     * had already looked it up.
+     */
+    @Scheduled(fixedDelayString = "${app.auth.failure-summary-interval-ms:60000}")
+    public void logSummary() {
+        Map<String, Long> counts = new TreeMap<>();
+        failures.forEach((type, count) -> {
+            long value = count.getAndSet(0);
+            if (value != 0) {
+                counts.put(type, value);
+            }
+        });
+        if (!counts.isEmpty()) {
+            logger.info("auth_failure_summary {}", counts);
+        }
+    }
+}
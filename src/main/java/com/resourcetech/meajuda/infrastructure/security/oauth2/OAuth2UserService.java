@@ -1,8 +1,10 @@
 package com.resourcetech.meajuda.infrastructure.security.oauth2;
 
+import com.resourcetech.meajuda.application.services.UserRegistrationService;
 import com.resourcetech.meajuda.domain.entities.AuthProvider;
 import com.resourcetech.meajuda.domain.entities.User;
 import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import com.resourcetech.meajuda.infrastructure.security.PrincipalCache;
 import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -15,9 +17,16 @@ import org.springframework.stereotype.Service;
 public class OAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final UserRegistrationService userRegistrationService;
 
-    public OAuth2UserService(UserRepository userRepository) {
+    public OAuth2UserService(
+            UserRepository userRepository,
+            PrincipalCache principalCache,
+            UserRegistrationService userRegistrationService) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.userRegistrationService = userRegistrationService;
     }
 
     @Override
@@ -49,12 +58,14 @@ public class OAuth2UserService extends DefaultOAuth2UserService {
         user.setEmail(userInfo.getEmail());
         user.setImageUrl(userInfo.getImageUrl());
         user.setEmailVerified(true);
-        return userRepository.save(user);
+        return userRegistrationService.register(user);
     }
 
     private User updateExistingUser(User existingUser, GoogleOAuth2UserInfo userInfo) {
+        userRepository.updateProfile(existingUser.getId(), userInfo.getName(), userInfo.getImageUrl());
         existingUser.setName(userInfo.getName());
         existingUser.setImageUrl(userInfo.getImageUrl());
-        return userRepository.save(existingUser);
+        principalCache.evict(existingUser.getId());
+        return existingUser;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.resourcetech.meajuda.infrastructure.web;
+
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller whose GET handlers are answered from the caller's version stamps for the
+ * given collections. A handler that also reads another collection, for example budget names next
+ * to expense totals, overrides the controller's annotation with every collection it reads. See
+ * {@link CollectionEtagInterceptor}.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CollectionEtag {
+    VersionedCollection[] value();
+}
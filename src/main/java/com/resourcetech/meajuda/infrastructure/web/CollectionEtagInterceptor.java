@@ -0,0 +1,89 @@
+package com.resourcetech.meajuda.infrastructure.web;
+
+import com.resourcetech.meajuda.application.services.CollectionVersionService;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.CRC32;
+
+/**
+ * Answers conditional GETs on {@link CollectionEtag} controllers before the handler runs. The
+ * strong ETag is the caller's collection versions plus a checksum of the request path and query,
+ * so each page or filter has its own tag; a matching {@code If-None-Match} gets a 304 after a
+ * single primary-key lookup and no repository query or serialization.
+ */
+@Component
+public class CollectionEtagInterceptor implements HandlerInterceptor {
+
+    private final CollectionVersionService collectionVersionService;
+
+    public CollectionEtagInterceptor(CollectionVersionService collectionVersionService) {
+        this.collectionVersionService = collectionVersionService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        var annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), CollectionEtag.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), CollectionEtag.class);
+        }
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (annotation == null || authentication == null
+                || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            return true;
+        }
+
+        String etag = etag(request, annotation.value(),
+                collectionVersionService.currentVersions(principal.getId(), annotation.value()));
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    private static String etag(HttpServletRequest request, VersionedCollection[] collections, long[] versions) {
+        var checksum = new CRC32();
+        checksum.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+        if (request.getQueryString() != null) {
+            checksum.update('?');
+            checksum.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+        }
+        var etag = new StringBuilder("\"");
+        for (int i = 0; i < collections.length; i++) {
+            etag.append(collections[i].name().toLowerCase(Locale.ROOT)).append('-').append(versions[i]).append('-');
+        }
+        return etag.append(Long.toHexString(checksum.getValue())).append('"').toString();
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
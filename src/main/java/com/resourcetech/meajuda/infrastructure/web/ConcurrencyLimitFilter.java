@@ -0,0 +1,110 @@
+package com.resourcetech.meajuda.infrastructure.web;
+
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bulkhead for virtual-thread mode. Tomcat no longer caps concurrency with its worker pool, so
+ * this filter bounds in-flight requests instead. Without it, thousands of virtual threads would
+ * queue on the Hikari pool. The permit count defaults to {@code server.tomcat.threads.max}, so
+ * switching to virtual threads admits as many requests as the platform worker pool did. It is
+ * not tied to the connection pool: most of a request's time is spent outside a transaction
+ * (authentication, serialisation, writing to slow clients, streamed exports), and the Hikari pool
+ * already bounds database concurrency, with its connection timeout capping the wait. Requests
+ * that cannot get a permit within the acquire timeout are rejected with 503 before any security
+ * or database work runs. Async requests, such as streamed exports, keep their permit until the
+ * async work completes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public ConcurrencyLimitFilter(AppProperties appProperties) {
+        this.permits = new Semaphore(appProperties.getConcurrency().getMaxInFlightRequests());
+        this.acquireTimeoutMs = appProperties.getConcurrency().getAcquireTimeoutMs();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is busy, retry later.");
+            return;
+        }
+
+        var releaser = new PermitReleaser();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(releaser);
+            } else {
+                releaser.release();
+            }
+        }
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private class PermitReleaser implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.resourcetech.meajuda.infrastructure.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import com.resourcetech.meajuda.infrastructure.security.JwtTokenProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket rate limiting, placed in the security chain ahead of JWT authentication. Each
+ * request draws from a bucket keyed by its route quota and by the user id of a valid bearer
+ * token, or by the client IP for anonymous calls. The first matching entry of
+ * {@code app.rate-limit.routes} sets the quota, otherwise the default quota applies. Buckets are
+ * evicted after sitting idle, and their total number is capped, so memory stays bounded.
+ *
+ * <p>The client IP is {@code getRemoteAddr()}, which is the proxy's address when the app runs
+ * behind a load balancer. Set {@code server.forward-headers-strategy} ({@code
+ * APP_FORWARD_HEADERS_STRATEGY}) to {@code native} or {@code framework} there, so the address is
+ * taken from {@code X-Forwarded-For} before this filter runs; leave it at {@code none} when clients
+ * connect directly, as they could otherwise pick their own bucket by sending the header.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final JwtTokenProvider tokenProvider;
+    private final boolean enabled;
+    private final List<RouteQuota> routes;
+    private final RouteQuota defaultQuota;
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    public RateLimitFilter(JwtTokenProvider tokenProvider, AppProperties appProperties) {
+        var rateLimit = appProperties.getRateLimit();
+        this.tokenProvider = tokenProvider;
+        this.enabled = rateLimit.isEnabled();
+        this.routes = rateLimit.getRoutes().stream()
+                .map(route -> new RouteQuota(PathPatternParser.defaultInstance.parse(route.getPattern()),
+                        route.getCapacity(), route.getRefillPerSecond()))
+                .toList();
+        this.defaultQuota = new RouteQuota(null,
+                rateLimit.getDefaultQuota().getCapacity(), rateLimit.getDefaultQuota().getRefillPerSecond());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(rateLimit.getMaxBuckets())
+                .expireAfterAccess(Duration.ofMillis(rateLimit.getIdleEvictionMs()))
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RouteQuota quota = quotaFor(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(new BucketKey(quota, clientKey(request)),
+                key -> new TokenBucket(quota.capacity(), quota.refillPerSecond(), now));
+
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded, retry later.");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RouteQuota quotaFor(String path) {
+        var pathContainer = PathContainer.parsePath(path);
+        for (RouteQuota route : routes) {
+            if (route.pattern().matches(pathContainer)) {
+                return route;
+            }
+        }
+        return defaultQuota;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            Long userId = tokenProvider.resolveUserId(request, bearerToken.substring(7));
+            if (userId != null) {
+                return "user:" + userId;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private record RouteQuota(PathPattern pattern, int capacity, double refillPerSecond) {
+    }
+
+    private record BucketKey(RouteQuota quota, String client) {
+    }
+}
@@ -3,6 +3,7 @@ package com.resourcetech.meajuda.presentation.controllers;
 import com.resourcetech.meajuda.application.dtos.AuthResponseDto;
 import com.resourcetech.meajuda.application.dtos.LoginRequestDto;
 import com.resourcetech.meajuda.application.dtos.SignUpRequestDto;
+import com.resourcetech.meajuda.application.services.UserRegistrationService;
 import com.resourcetech.meajuda.domain.entities.User;
 import com.resourcetech.meajuda.domain.repositories.UserRepository;
 import com.resourcetech.meajuda.infrastructure.security.JwtTokenProvider;
@@ -24,16 +25,19 @@ public class AuthController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
+    private final UserRegistrationService userRegistrationService;
 
     public AuthController(
             AuthenticationManager authenticationManager,
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
-            JwtTokenProvider tokenProvider) {
+            JwtTokenProvider tokenProvider,
+            UserRegistrationService userRegistrationService) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
+        this.userRegistrationService = userRegistrationService;
     }
 
     @PostMapping("/login")
@@ -62,7 +66,7 @@ public class AuthController {
         user.setEmail(signUpRequest.getEmail());
         user.setPassword(passwordEncoder.encode(signUpRequest.getPassword()));
 
-        User result = userRepository.save(user);
+        User result = userRegistrationService.register(user);
 
         return ResponseEntity
             .created(
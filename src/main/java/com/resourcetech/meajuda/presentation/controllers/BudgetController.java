@@ -1,28 +1,45 @@
 package com.resourcetech.meajuda.presentation.controllers;
 
 import com.resourcetech.meajuda.application.dtos.BudgetDto;
+import com.resourcetech.meajuda.application.dtos.BudgetUtilisationDto;
+import com.resourcetech.meajuda.application.services.CollectionVersionService;
 import com.resourcetech.meajuda.domain.entities.Budget;
+import com.resourcetech.meajuda.domain.entities.SyncTombstone;
 import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
 import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import com.resourcetech.meajuda.domain.repositories.SyncTombstoneRepository;
 import com.resourcetech.meajuda.domain.repositories.UserRepository;
 import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import com.resourcetech.meajuda.infrastructure.web.CollectionEtag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/budgets")
+@CollectionEtag(VersionedCollection.BUDGETS)
 public class BudgetController {
 
     private final BudgetRepository budgetRepository;
     private final UserRepository userRepository;
+    private final CollectionVersionService collectionVersionService;
+    private final SyncTombstoneRepository syncTombstoneRepository;
 
-    public BudgetController(BudgetRepository budgetRepository, UserRepository userRepository) {
+    public BudgetController(
+            BudgetRepository budgetRepository,
+            UserRepository userRepository,
+            CollectionVersionService collectionVersionService,
+            SyncTombstoneRepository syncTombstoneRepository) {
         this.budgetRepository = budgetRepository;
         this.userRepository = userRepository;
+        this.collectionVersionService = collectionVersionService;
+        this.syncTombstoneRepository = syncTombstoneRepository;
     }
 
     private BudgetDto convertToDto(Budget budget) {
@@ -39,61 +56,61 @@ public class BudgetController {
 
     private Budget convertToEntity(BudgetDto dto, User user) {
         var budget = new Budget();
-        budget.setId(dto.getId());
         budget.setName(dto.getName());
         budget.setAmount(dto.getAmount());
         budget.setCategory(dto.getCategory());
         budget.setStartDate(dto.getStartDate());
         budget.setEndDate(dto.getEndDate());
-        budget.setCurrentSpent(dto.getCurrentSpent());
+        budget.setCurrentSpent(BigDecimal.ZERO);
         budget.setUser(user);
         return budget;
     }
 
     @GetMapping
+    @Transactional(readOnly = true)
     public List<BudgetDto> getBudgets(@AuthenticationPrincipal UserPrincipal currentUser) {
-        return budgetRepository.findByUserId(currentUser.getId())
-                .stream()
-                .map(this::convertToDto)
-                .toList();
+        return budgetRepository.findDtosByUserId(currentUser.getId());
+    }
+
+    @GetMapping("/utilisation")
+    @Transactional(readOnly = true)
+    public List<BudgetUtilisationDto> getUtilisation(@AuthenticationPrincipal UserPrincipal currentUser) {
+        return budgetRepository.findUtilisationByUserId(currentUser.getId());
     }
 
     @PostMapping
+    @Transactional
     public ResponseEntity<BudgetDto> createBudget(
             @Valid @RequestBody BudgetDto budgetDto,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        var user = userRepository.findById(currentUser.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
+        long changeSeq = collectionVersionService.bump(currentUser.getId(), VersionedCollection.BUDGETS);
+        var user = userRepository.getReferenceById(currentUser.getId());
+
         var budget = convertToEntity(budgetDto, user);
+        budget.setChangeSeq(changeSeq);
         var savedBudget = budgetRepository.save(budget);
         return ResponseEntity.ok(convertToDto(savedBudget));
     }
 
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<BudgetDto> getBudget(
             @PathVariable Long id,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return budgetRepository.findById(id)
-                .<ResponseEntity<BudgetDto>>map(budget -> {
-                    if (!budget.getUser().getId().equals(currentUser.getId())) {
-                        return ResponseEntity.notFound().build();
-                    }
-                    return ResponseEntity.ok(convertToDto(budget));
-                })
+        return budgetRepository.findDtoByIdAndUserId(id, currentUser.getId())
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<BudgetDto> updateBudget(
             @PathVariable Long id,
             @Valid @RequestBody BudgetDto budgetDto,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return budgetRepository.findById(id)
+        return budgetRepository.findByIdAndUserId(id, currentUser.getId())
                 .<ResponseEntity<BudgetDto>>map(budget -> {
-                    if (!budget.getUser().getId().equals(currentUser.getId())) {
-                        return ResponseEntity.notFound().build();
-                    }
+                    budget.setChangeSeq(collectionVersionService.bump(currentUser.getId(), VersionedCollection.BUDGETS));
                     budget.setName(budgetDto.getName());
                     budget.setAmount(budgetDto.getAmount());
                     budget.setCategory(budgetDto.getCategory());
@@ -105,17 +122,15 @@ public class BudgetController {
     }
 
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteBudget(
             @PathVariable Long id,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return budgetRepository.findById(id)
-                .<ResponseEntity<Void>>map(budget -> {
-                    if (!budget.getUser().getId().equals(currentUser.getId())) {
-                        return ResponseEntity.notFound().build();
-                    }
-                    budgetRepository.delete(budget);
-                    return ResponseEntity.ok().build();
-                })
-                .orElse(ResponseEntity.notFound().build());
+        if (budgetRepository.deleteByIdAndUserId(id, currentUser.getId()) == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        long changeSeq = collectionVersionService.bump(currentUser.getId(), VersionedCollection.BUDGETS);
+        syncTombstoneRepository.save(new SyncTombstone(currentUser.getId(), VersionedCollection.BUDGETS, id, changeSeq));
+        return ResponseEntity.ok().build();
     }
-} 
\ No newline at end of file
+}
@@ -1,39 +1,114 @@
 package com.resourcetech.meajuda.presentation.controllers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resourcetech.meajuda.application.dtos.BudgetExpenseSummaryDto;
+import com.resourcetech.meajuda.application.dtos.ExpenseCursor;
 import com.resourcetech.meajuda.application.dtos.ExpenseDto;
-import com.resourcetech.meajuda.domain.entities.Budget;
+import com.resourcetech.meajuda.application.dtos.ExpenseImportResultDto;
+import com.resourcetech.meajuda.application.dtos.ExpenseSummaryDto;
+import com.resourcetech.meajuda.application.dtos.MonthlyCategoryTotalDto;
+import com.resourcetech.meajuda.application.dtos.MonthlyExpenseSummaryDto;
+import com.resourcetech.meajuda.application.services.CollectionVersionService;
+import com.resourcetech.meajuda.application.services.ExpenseCsvReader;
+import com.resourcetech.meajuda.application.services.ExpenseImportService;
+import com.resourcetech.meajuda.application.services.ExpenseOutbox;
+import com.resourcetech.meajuda.application.services.ExpenseRollupService;
+import com.resourcetech.meajuda.application.services.RecurringExpenseMaterializer;
 import com.resourcetech.meajuda.domain.entities.Expense;
+import com.resourcetech.meajuda.domain.entities.SyncTombstone;
 import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
 import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import com.resourcetech.meajuda.domain.repositories.ExpenseMonthlyRollupRepository;
 import com.resourcetech.meajuda.domain.repositories.ExpenseRepository;
+import com.resourcetech.meajuda.domain.repositories.ExpenseView;
+import com.resourcetech.meajuda.domain.repositories.SyncTombstoneRepository;
 import com.resourcetech.meajuda.domain.repositories.UserRepository;
 import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import com.resourcetech.meajuda.infrastructure.web.CollectionEtag;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/expenses")
+@CollectionEtag(VersionedCollection.EXPENSES)
 public class ExpenseController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+    private static final String DEFAULT_PAGE_SIZE = "50";
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int DEFAULT_TREND_MONTHS = 24;
+
     private final ExpenseRepository expenseRepository;
     private final UserRepository userRepository;
     private final BudgetRepository budgetRepository;
+    private final ExpenseImportService expenseImportService;
+    private final ExpenseRollupService expenseRollupService;
+    private final ExpenseMonthlyRollupRepository rollupRepository;
+    private final CollectionVersionService collectionVersionService;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ExpenseOutbox expenseOutbox;
+    private final RecurringExpenseMaterializer recurringExpenseMaterializer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
 
     public ExpenseController(
             ExpenseRepository expenseRepository,
             UserRepository userRepository,
-            BudgetRepository budgetRepository) {
+            BudgetRepository budgetRepository,
+            ExpenseImportService expenseImportService,
+            ExpenseRollupService expenseRollupService,
+            ExpenseMonthlyRollupRepository rollupRepository,
+            CollectionVersionService collectionVersionService,
+            SyncTombstoneRepository syncTombstoneRepository,
+            ExpenseOutbox expenseOutbox,
+            RecurringExpenseMaterializer recurringExpenseMaterializer,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
         this.expenseRepository = expenseRepository;
         this.userRepository = userRepository;
         this.budgetRepository = budgetRepository;
+        this.expenseImportService = expenseImportService;
+        this.expenseRollupService = expenseRollupService;
+        this.rollupRepository = rollupRepository;
+        this.collectionVersionService = collectionVersionService;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.expenseOutbox = expenseOutbox;
+        this.recurringExpenseMaterializer = recurringExpenseMaterializer;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
-    private ExpenseDto convertToDto(Expense expense) {
+    static ExpenseDto convertToDto(Expense expense) {
         var dto = new ExpenseDto();
         dto.setId(expense.getId());
         dto.setDescription(expense.getDescription());
@@ -47,9 +122,20 @@ public class ExpenseController {
         return dto;
     }
 
+    static ExpenseDto convertToDto(ExpenseView view) {
+        return new ExpenseDto(view.getId(), view.getDescription(), view.getAmount(), view.getExpenseDate(),
+                view.getCategory(), view.getBudgetId(), view.getPaymentMethod(), view.getIsRecurring(),
+                view.getRecurrencePeriod());
+    }
+
     private Expense convertToEntity(ExpenseDto dto, User user) {
         var expense = new Expense();
-        expense.setId(dto.getId());
+        expense.setUser(user);
+        updateEntity(expense, dto);
+        return expense;
+    }
+
+    private void updateEntity(Expense expense, ExpenseDto dto) {
         expense.setDescription(dto.getDescription());
         expense.setAmount(dto.getAmount());
         expense.setExpenseDate(dto.getExpenseDate());
@@ -57,105 +143,298 @@ public class ExpenseController {
         expense.setPaymentMethod(dto.getPaymentMethod());
         expense.setRecurring(dto.isRecurring());
         expense.setRecurrencePeriod(dto.getRecurrencePeriod());
-        expense.setUser(user);
+        expense.setBudget(dto.getBudgetId() != null ? budgetRepository.getReferenceById(dto.getBudgetId()) : null);
+    }
 
-        if (dto.getBudgetId() != null) {
-            Budget budget = budgetRepository.findById(dto.getBudgetId())
-                    .orElseThrow(() -> new RuntimeException("Budget not found"));
-            expense.setBudget(budget);
+    private static Long budgetIdOf(Expense expense) {
+        return expense.getBudget() != null ? expense.getBudget().getId() : null;
+    }
+
+    /**
+     * Moves the expense amount between budget totals. Crediting the target budget is also its
+     * ownership check: the update matches no row when the budget belongs to another user.
+     */
+    private void moveBudgetSpent(Long userId, long changeSeq,
+                                 Long fromBudgetId, BigDecimal fromAmount, Long toBudgetId, BigDecimal toAmount) {
+        if (Objects.equals(fromBudgetId, toBudgetId)) {
+            applyBudgetDelta(userId, changeSeq, toBudgetId, toAmount.subtract(fromAmount));
+            return;
+        }
+        applyBudgetDelta(userId, changeSeq, fromBudgetId, fromAmount.negate());
+        if (toBudgetId != null && budgetRepository.addToCurrentSpent(toBudgetId, userId, toAmount, changeSeq) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Budget not found");
         }
+    }
 
-        return expense;
+    private void applyBudgetDelta(Long userId, long changeSeq, Long budgetId, BigDecimal delta) {
+        if (budgetId != null && delta.signum() != 0) {
+            budgetRepository.addToCurrentSpent(budgetId, userId, delta, changeSeq);
+        }
+    }
+
+    private long bumpVersions(Long userId, Long... budgetIds) {
+        if (Arrays.stream(budgetIds).anyMatch(Objects::nonNull)) {
+            return collectionVersionService.bump(userId, VersionedCollection.EXPENSES, VersionedCollection.BUDGETS);
+        }
+        return collectionVersionService.bump(userId, VersionedCollection.EXPENSES);
+    }
+
+    private static Limit pageLimit(int limit) {
+        return Limit.of(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    private static ScrollPosition scrollPosition(String cursor) {
+        try {
+            return ExpenseCursor.decode(cursor);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", ex);
+        }
+    }
+
+    private static ResponseEntity<List<ExpenseDto>> toPage(Window<ExpenseView> window) {
+        var response = ResponseEntity.ok();
+        if (window.hasNext() && !window.isEmpty()) {
+            response.header(NEXT_CURSOR_HEADER, ExpenseCursor.encode(window.positionAt(window.size() - 1)));
+        }
+        return response.body(window.map(ExpenseController::convertToDto).getContent());
     }
 
     @GetMapping
-    public List<ExpenseDto> getExpenses(@AuthenticationPrincipal UserPrincipal currentUser) {
-        return expenseRepository.findByUserId(currentUser.getId())
-                .stream()
-                .map(this::convertToDto)
-                .toList();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ExpenseDto>> getExpenses(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return toPage(expenseRepository.findByUserIdOrderByExpenseDateDescIdDesc(
+                currentUser.getId(), scrollPosition(cursor), pageLimit(limit)));
+    }
+
+    @GetMapping(value = "/stream", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamExpenses(@AuthenticationPrincipal UserPrincipal currentUser) {
+        Long userId = currentUser.getId();
+        StreamingResponseBody body = out -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (var expenses = expenseRepository.streamByUserId(userId)) {
+                expenses.forEach(expense -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(expense));
+                        out.write('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
     }
 
     @GetMapping("/by-date-range")
-    public List<ExpenseDto> getExpensesByDateRange(
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ExpenseDto>> getExpensesByDateRange(
             @RequestParam LocalDateTime startDate,
             @RequestParam LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return expenseRepository.findByUserIdAndExpenseDateBetween(currentUser.getId(), startDate, endDate)
-                .stream()
-                .map(this::convertToDto)
-                .toList();
+        return toPage(expenseRepository.findByUserIdAndExpenseDateBetweenOrderByExpenseDateDescIdDesc(
+                currentUser.getId(), startDate, endDate, scrollPosition(cursor), pageLimit(limit)));
     }
 
     @GetMapping("/by-category")
-    public List<ExpenseDto> getExpensesByCategory(
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ExpenseDto>> getExpensesByCategory(
             @RequestParam String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return expenseRepository.findByUserIdAndCategory(currentUser.getId(), category)
-                .stream()
-                .map(this::convertToDto)
-                .toList();
+        return toPage(expenseRepository.findByUserIdAndCategoryOrderByExpenseDateDescIdDesc(
+                currentUser.getId(), category, scrollPosition(cursor), pageLimit(limit)));
+    }
+
+    @GetMapping("/summary/by-category")
+    public List<ExpenseSummaryDto> getSummaryByCategory(
+            @RequestParam LocalDateTime startDate,
+            @RequestParam LocalDateTime endDate,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return expenseRepository.summarizeByCategory(currentUser.getId(), startDate, endDate);
+    }
+
+    @GetMapping("/summary/by-month")
+    public List<MonthlyExpenseSummaryDto> getSummaryByMonth(
+            @RequestParam LocalDateTime startDate,
+            @RequestParam LocalDateTime endDate,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return expenseRepository.summarizeByMonth(currentUser.getId(), startDate, endDate);
+    }
+
+    @GetMapping("/summary/by-payment-method")
+    public List<ExpenseSummaryDto> getSummaryByPaymentMethod(
+            @RequestParam LocalDateTime startDate,
+            @RequestParam LocalDateTime endDate,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return expenseRepository.summarizeByPaymentMethod(currentUser.getId(), startDate, endDate);
+    }
+
+    @GetMapping("/summary/by-budget")
+    @CollectionEtag({VersionedCollection.EXPENSES, VersionedCollection.BUDGETS})
+    public List<BudgetExpenseSummaryDto> getSummaryByBudget(
+            @RequestParam LocalDateTime startDate,
+            @RequestParam LocalDateTime endDate,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return expenseRepository.summarizeByBudget(currentUser.getId(), startDate, endDate);
+    }
+
+    @GetMapping("/summary/trend")
+    public List<MonthlyCategoryTotalDto> getMonthlyTrend(
+            @RequestParam(required = false) YearMonth fromMonth,
+            @RequestParam(required = false) YearMonth toMonth,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        var to = toMonth != null ? toMonth : YearMonth.now();
+        var from = fromMonth != null ? fromMonth : to.minusMonths(DEFAULT_TREND_MONTHS - 1);
+        return rollupRepository.findTrend(currentUser.getId(), from.toString(), to.toString());
     }
 
     @PostMapping
+    @Transactional
     public ResponseEntity<ExpenseDto> createExpense(
             @Valid @RequestBody ExpenseDto expenseDto,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        var user = userRepository.findById(currentUser.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        long changeSeq = bumpVersions(currentUser.getId(), expenseDto.getBudgetId());
+        var user = userRepository.getReferenceById(currentUser.getId());
 
         var expense = convertToEntity(expenseDto, user);
+        expense.setChangeSeq(changeSeq);
         var savedExpense = expenseRepository.save(expense);
+        moveBudgetSpent(currentUser.getId(), changeSeq,
+                null, BigDecimal.ZERO, budgetIdOf(savedExpense), savedExpense.getAmount());
+        expenseRollupService.add(currentUser.getId(),
+                savedExpense.getExpenseDate(), savedExpense.getCategory(), savedExpense.getAmount());
+        expenseOutbox.record(savedExpense);
         return ResponseEntity.ok(convertToDto(savedExpense));
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ExpenseImportResultDto> importExpenses(
+            InputStream body,
+            @AuthenticationPrincipal UserPrincipal currentUser) throws IOException {
+        try (MappingIterator<ExpenseDto> rows = objectMapper.readerFor(ExpenseDto.class).readValues(body)) {
+            return ResponseEntity.ok(expenseImportService.importExpenses(currentUser.getId(), rows));
+        } catch (JsonProcessingException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getOriginalMessage(), ex);
+        }
+    }
+
+    @PostMapping(value = "/bulk", consumes = CSV_VALUE)
+    public ResponseEntity<ExpenseImportResultDto> importExpensesCsv(
+            InputStream body,
+            @AuthenticationPrincipal UserPrincipal currentUser) throws IOException {
+        try (var rows = new ExpenseCsvReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(expenseImportService.importExpenses(currentUser.getId(), rows));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<ExpenseDto> getExpense(
             @PathVariable Long id,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return expenseRepository.findById(id)
-                .<ResponseEntity<ExpenseDto>>map(expense -> {
-                    if (!expense.getUser().getId().equals(currentUser.getId())) {
-                        return ResponseEntity.notFound().build();
-                    }
-                    return ResponseEntity.ok(convertToDto(expense));
-                })
+        return expenseRepository.findViewByIdAndUserId(id, currentUser.getId())
+                .map(view -> ResponseEntity.ok(convertToDto(view)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<ExpenseDto> updateExpense(
             @PathVariable Long id,
             @Valid @RequestBody ExpenseDto expenseDto,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return expenseRepository.findById(id)
-                .<ResponseEntity<ExpenseDto>>map(expense -> {
-                    if (!expense.getUser().getId().equals(currentUser.getId())) {
-                        return ResponseEntity.notFound().build();
-                    }
-                    
-                    var user = userRepository.findById(currentUser.getId())
-                            .orElseThrow(() -> new RuntimeException("User not found"));
-                    
-                    var updatedExpense = convertToEntity(expenseDto, user);
-                    updatedExpense.setId(id);
-                    return ResponseEntity.ok(convertToDto(expenseRepository.save(updatedExpense)));
+        Long userId = currentUser.getId();
+        return expenseRepository.findViewByIdAndUserId(id, userId)
+                .flatMap(view -> {
+                    long changeSeq = bumpVersions(userId, view.getBudgetId(), expenseDto.getBudgetId());
+                    return expenseRepository.findByIdAndUserId(id, userId)
+                            .map(expense -> applyUpdate(userId, changeSeq, expense, expenseDto));
                 })
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Applies an edit to an expense that was loaded after the user's versions were bumped, so
+     * whether it has been posted is not stale. An unposted occurrence has not been credited yet
+     * and is credited with its edited values once it falls due.
+     */
+    private ExpenseDto applyUpdate(Long userId, long changeSeq, Expense expense, ExpenseDto expenseDto) {
+        if (expense.isRecurring()) {
+            recurringExpenseMaterializer.discardUpcoming(userId, expense, LocalDateTime.now());
+        }
+        Long previousBudgetId = budgetIdOf(expense);
+        BigDecimal previousAmount = expense.getAmount();
+        LocalDateTime previousDate = expense.getExpenseDate();
+        String previousCategory = expense.getCategory();
+        boolean scheduleChanged = expense.isRecurring() != expenseDto.isRecurring()
+                || !Objects.equals(expense.getRecurrencePeriod(), expenseDto.getRecurrencePeriod())
+                || !previousDate.equals(expenseDto.getExpenseDate());
+
+        updateEntity(expense, expenseDto);
+        if (scheduleChanged) {
+            expense.setNextOccurrenceDate(null);
+        }
+        expense.setChangeSeq(changeSeq);
+        var savedExpense = expenseRepository.save(expense);
+        Long budgetId = budgetIdOf(savedExpense);
+        if (!savedExpense.isPosted()) {
+            // Nothing is credited yet; moving zero only checks that a new budget is the user's.
+            moveBudgetSpent(userId, changeSeq, previousBudgetId, BigDecimal.ZERO, budgetId, BigDecimal.ZERO);
+            return convertToDto(savedExpense);
+        }
+        moveBudgetSpent(userId, changeSeq, previousBudgetId, previousAmount, budgetId, savedExpense.getAmount());
+        expenseRollupService.move(userId,
+                previousDate, previousCategory, previousAmount,
+                savedExpense.getExpenseDate(), savedExpense.getCategory(), savedExpense.getAmount());
+        if (!Objects.equals(previousBudgetId, budgetId)) {
+            expenseOutbox.recordRemoval(userId, expense.getId(), previousBudgetId, previousAmount);
+            expenseOutbox.record(savedExpense);
+        } else if (previousAmount.compareTo(savedExpense.getAmount()) != 0) {
+            expenseOutbox.record(savedExpense);
+        }
+        return convertToDto(savedExpense);
+    }
+
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteExpense(
             @PathVariable Long id,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return expenseRepository.findById(id)
-                .<ResponseEntity<Void>>map(expense -> {
-                    if (!expense.getUser().getId().equals(currentUser.getId())) {
-                        return ResponseEntity.notFound().build();
-                    }
-                    expenseRepository.delete(expense);
-                    return ResponseEntity.ok().build();
+        Long userId = currentUser.getId();
+        return expenseRepository.findViewByIdAndUserId(id, userId)
+                .flatMap(view -> {
+                    long changeSeq = bumpVersions(userId, view.getBudgetId());
+                    return expenseRepository.findByIdAndUserId(id, userId)
+                            .map(expense -> {
+                                applyDelete(userId, changeSeq, expense);
+                                return ResponseEntity.ok().<Void>build();
+                            });
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
-} 
\ No newline at end of file
+
+    private void applyDelete(Long userId, long changeSeq, Expense expense) {
+        if (expense.isRecurring()) {
+            recurringExpenseMaterializer.discardUpcoming(userId, expense, LocalDateTime.now());
+        }
+        expenseRepository.delete(expense);
+        syncTombstoneRepository.save(new SyncTombstone(
+                userId, VersionedCollection.EXPENSES, expense.getId(), changeSeq));
+        if (!expense.isPosted()) {
+            return;
+        }
+        applyBudgetDelta(userId, changeSeq, budgetIdOf(expense), expense.getAmount().negate());
+        expenseRollupService.remove(userId, expense.getExpenseDate(), expense.getCategory(), expense.getAmount());
+        expenseOutbox.recordRemoval(userId, expense.getId(), budgetIdOf(expense), expense.getAmount());
+    }
+}
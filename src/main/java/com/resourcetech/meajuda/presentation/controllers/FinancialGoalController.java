@@ -1,31 +1,44 @@
 package com.resourcetech.meajuda.presentation.controllers;
 
 import com.resourcetech.meajuda.application.dtos.FinancialGoalDto;
+import com.resourcetech.meajuda.application.services.CollectionVersionService;
 import com.resourcetech.meajuda.domain.entities.FinancialGoal;
 import com.resourcetech.meajuda.domain.entities.GoalStatus;
+import com.resourcetech.meajuda.domain.entities.SyncTombstone;
 import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
 import com.resourcetech.meajuda.domain.repositories.FinancialGoalRepository;
+import com.resourcetech.meajuda.domain.repositories.SyncTombstoneRepository;
 import com.resourcetech.meajuda.domain.repositories.UserRepository;
 import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import com.resourcetech.meajuda.infrastructure.web.CollectionEtag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/goals")
+@CollectionEtag(VersionedCollection.GOALS)
 public class FinancialGoalController {
 
     private final FinancialGoalRepository goalRepository;
     private final UserRepository userRepository;
+    private final CollectionVersionService collectionVersionService;
+    private final SyncTombstoneRepository syncTombstoneRepository;
 
     public FinancialGoalController(
             FinancialGoalRepository goalRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            CollectionVersionService collectionVersionService,
+            SyncTombstoneRepository syncTombstoneRepository) {
         this.goalRepository = goalRepository;
         this.userRepository = userRepository;
+        this.collectionVersionService = collectionVersionService;
+        this.syncTombstoneRepository = syncTombstoneRepository;
     }
 
     private FinancialGoalDto convertToDto(FinancialGoal goal) {
@@ -42,92 +55,82 @@ public class FinancialGoalController {
 
     private FinancialGoal convertToEntity(FinancialGoalDto dto, User user) {
         var goal = new FinancialGoal();
-        goal.setId(dto.getId());
+        goal.setUser(user);
+        updateEntity(goal, dto);
+        return goal;
+    }
+
+    private void updateEntity(FinancialGoal goal, FinancialGoalDto dto) {
         goal.setName(dto.getName());
         goal.setDescription(dto.getDescription());
         goal.setTargetAmount(dto.getTargetAmount());
         goal.setCurrentAmount(dto.getCurrentAmount());
         goal.setTargetDate(dto.getTargetDate());
         goal.setStatus(dto.getStatus() != null ? dto.getStatus() : GoalStatus.IN_PROGRESS);
-        goal.setUser(user);
-        return goal;
     }
 
     @GetMapping
+    @Transactional(readOnly = true)
     public List<FinancialGoalDto> getGoals(@AuthenticationPrincipal UserPrincipal currentUser) {
-        return goalRepository.findByUserId(currentUser.getId())
-                .stream()
-                .map(this::convertToDto)
-                .toList();
+        return goalRepository.findDtosByUserId(currentUser.getId());
     }
 
     @GetMapping("/by-status")
+    @Transactional(readOnly = true)
     public List<FinancialGoalDto> getGoalsByStatus(
             @RequestParam GoalStatus status,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return goalRepository.findByUserIdAndStatus(currentUser.getId(), status)
-                .stream()
-                .map(this::convertToDto)
-                .toList();
+        return goalRepository.findDtosByUserIdAndStatus(currentUser.getId(), status);
     }
 
     @PostMapping
+    @Transactional
     public ResponseEntity<FinancialGoalDto> createGoal(
             @Valid @RequestBody FinancialGoalDto goalDto,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        var user = userRepository.findById(currentUser.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        long changeSeq = collectionVersionService.bump(currentUser.getId(), VersionedCollection.GOALS);
+        var user = userRepository.getReferenceById(currentUser.getId());
 
         var goal = convertToEntity(goalDto, user);
+        goal.setChangeSeq(changeSeq);
         var savedGoal = goalRepository.save(goal);
         return ResponseEntity.ok(convertToDto(savedGoal));
     }
 
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<FinancialGoalDto> getGoal(
             @PathVariable Long id,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return goalRepository.findById(id)
-                .<ResponseEntity<FinancialGoalDto>>map(goal -> {
-                    if (!goal.getUser().getId().equals(currentUser.getId())) {
-                        return ResponseEntity.notFound().build();
-                    }
-                    return ResponseEntity.ok(convertToDto(goal));
-                })
+        return goalRepository.findDtoByIdAndUserId(id, currentUser.getId())
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<FinancialGoalDto> updateGoal(
             @PathVariable Long id,
             @Valid @RequestBody FinancialGoalDto goalDto,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return goalRepository.findById(id)
+        return goalRepository.findByIdAndUserId(id, currentUser.getId())
                 .<ResponseEntity<FinancialGoalDto>>map(goal -> {
-                    if (!goal.getUser().getId().equals(currentUser.getId())) {
-                        return ResponseEntity.notFound().build();
-                    }
-
-                    var user = userRepository.findById(currentUser.getId())
-                            .orElseThrow(() -> new RuntimeException("User not found"));
-
-                    var updatedGoal = convertToEntity(goalDto, user);
-                    updatedGoal.setId(id);
-                    return ResponseEntity.ok(convertToDto(goalRepository.save(updatedGoal)));
+                    goal.setChangeSeq(collectionVersionService.bump(currentUser.getId(), VersionedCollection.GOALS));
+                    updateEntity(goal, goalDto);
+                    return ResponseEntity.ok(convertToDto(goalRepository.save(goal)));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PatchMapping("/{id}/status")
+    @Transactional
     public ResponseEntity<FinancialGoalDto> updateGoalStatus(
             @PathVariable Long id,
             @RequestParam GoalStatus status,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return goalRepository.findById(id)
+        return goalRepository.findByIdAndUserId(id, currentUser.getId())
                 .<ResponseEntity<FinancialGoalDto>>map(goal -> {
-                    if (!goal.getUser().getId().equals(currentUser.getId())) {
-                        return ResponseEntity.notFound().build();
-                    }
+                    goal.setChangeSeq(collectionVersionService.bump(currentUser.getId(), VersionedCollection.GOALS));
                     goal.setStatus(status);
                     return ResponseEntity.ok(convertToDto(goalRepository.save(goal)));
                 })
@@ -135,17 +138,15 @@ public class FinancialGoalController {
     }
 
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteGoal(
             @PathVariable Long id,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        return goalRepository.findById(id)
-                .<ResponseEntity<Void>>map(goal -> {
-                    if (!goal.getUser().getId().equals(currentUser.getId())) {
-                        return ResponseEntity.notFound().build();
-                    }
-                    goalRepository.delete(goal);
-                    return ResponseEntity.ok().build();
-                })
-                .orElse(ResponseEntity.notFound().build());
+        if (goalRepository.deleteByIdAndUserId(id, currentUser.getId()) == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        long changeSeq = collectionVersionService.bump(currentUser.getId(), VersionedCollection.GOALS);
+        syncTombstoneRepository.save(new SyncTombstone(currentUser.getId(), VersionedCollection.GOALS, id, changeSeq));
+        return ResponseEntity.ok().build();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,188 @@
+package com.resourcetech.meajuda.presentation.controllers;
+
+import com.resourcetech.meajuda.application.dtos.BudgetDto;
+import com.resourcetech.meajuda.application.dtos.ExpenseDto;
+import com.resourcetech.meajuda.application.dtos.FinancialGoalDto;
+import com.resourcetech.meajuda.application.dtos.SyncCursor;
+import com.resourcetech.meajuda.application.dtos.SyncResponseDto;
+import com.resourcetech.meajuda.application.dtos.SyncTombstoneDto;
+import com.resourcetech.meajuda.application.services.CollectionVersionService;
+import com.resourcetech.meajuda.domain.entities.Budget;
+import com.resourcetech.meajuda.domain.entities.Expense;
+import com.resourcetech.meajuda.domain.entities.FinancialGoal;
+import com.resourcetech.meajuda.domain.entities.SyncTombstone;
+import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import com.resourcetech.meajuda.domain.repositories.ExpenseRepository;
+import com.resourcetech.meajuda.domain.repositories.FinancialGoalRepository;
+import com.resourcetech.meajuda.domain.repositories.SyncTombstoneRepository;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Delta sync for offline-first clients. Every expense, budget and goal write stamps the row with
+ * the user's next change sequence and every delete leaves a tombstone, so a client only needs
+ * the rows stamped after the sequence in its cursor. Each call reads up to a snapshot of the
+ * user's current sequence; changes that commit later are picked up by the next call. A cursor's
+ * issue time is only refreshed once the client has caught up; while pages remain it keeps the
+ * time the catch-up started, so tombstones it still needs cannot be pruned under it unnoticed.
+ */
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+    private static final String DEFAULT_PAGE_SIZE = "500";
+    private static final int MAX_PAGE_SIZE = 2000;
+
+    private final ExpenseRepository expenseRepository;
+    private final BudgetRepository budgetRepository;
+    private final FinancialGoalRepository goalRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final CollectionVersionService collectionVersionService;
+    private final AppProperties appProperties;
+
+    public SyncController(
+            ExpenseRepository expenseRepository,
+            BudgetRepository budgetRepository,
+            FinancialGoalRepository goalRepository,
+            SyncTombstoneRepository syncTombstoneRepository,
+            CollectionVersionService collectionVersionService,
+            AppProperties appProperties) {
+        this.expenseRepository = expenseRepository;
+        this.budgetRepository = budgetRepository;
+        this.goalRepository = goalRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.collectionVersionService = collectionVersionService;
+        this.appProperties = appProperties;
+    }
+
+    private static ExpenseDto convertToDto(Expense expense) {
+        var dto = new ExpenseDto();
+        dto.setId(expense.getId());
+        dto.setDescription(expense.getDescription());
+        dto.setAmount(expense.getAmount());
+        dto.setExpenseDate(expense.getExpenseDate());
+        dto.setCategory(expense.getCategory());
+        dto.setBudgetId(expense.getBudget() != null ? expense.getBudget().getId() : null);
+        dto.setPaymentMethod(expense.getPaymentMethod());
+        dto.setRecurring(expense.isRecurring());
+        dto.setRecurrencePeriod(expense.getRecurrencePeriod());
+        return dto;
+    }
+
+    private static BudgetDto convertToDto(Budget budget) {
+        var dto = new BudgetDto();
+        dto.setId(budget.getId());
+        dto.setName(budget.getName());
+        dto.setAmount(budget.getAmount());
+        dto.setCategory(budget.getCategory());
+        dto.setStartDate(budget.getStartDate());
+        dto.setEndDate(budget.getEndDate());
+        dto.setCurrentSpent(budget.getCurrentSpent());
+        return dto;
+    }
+
+    private static FinancialGoalDto convertToDto(FinancialGoal goal) {
+        var dto = new FinancialGoalDto();
+        dto.setId(goal.getId());
+        dto.setName(goal.getName());
+        dto.setDescription(goal.getDescription());
+        dto.setTargetAmount(goal.getTargetAmount());
+        dto.setCurrentAmount(goal.getCurrentAmount());
+        dto.setTargetDate(goal.getTargetDate());
+        dto.setStatus(goal.getStatus());
+        return dto;
+    }
+
+    private SyncCursor sinceCursor(String since) {
+        SyncCursor cursor;
+        try {
+            cursor = SyncCursor.decode(since);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sync cursor", ex);
+        }
+        Instant oldestSafe = Instant.now().minus(appProperties.getSync().getTombstoneRetentionDays(), ChronoUnit.DAYS);
+        if (cursor.issuedAt() != null && cursor.issuedAt().isBefore(oldestSafe)) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Sync cursor expired, resync without a cursor");
+        }
+        return cursor;
+    }
+
+    /**
+     * Lowers {@code upTo} so that a page that overflowed the limit is cut at a sequence boundary.
+     */
+    private static <T> long cutoff(List<T> page, int limit, ToLongFunction<T> changeSeq, long upTo) {
+        return page.size() > limit ? Math.min(upTo, changeSeq.applyAsLong(page.get(limit)) - 1) : upTo;
+    }
+
+    private Changes changes(Long userId, long fromSeq, long toSeq, Limit limit) {
+        return new Changes(
+                expenseRepository.findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(userId, fromSeq, toSeq, limit),
+                budgetRepository.findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(userId, fromSeq, toSeq, limit),
+                goalRepository.findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(userId, fromSeq, toSeq, limit),
+                syncTombstoneRepository.findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(
+                        userId, fromSeq, toSeq, limit));
+    }
+
+    @GetMapping
+    @Transactional(readOnly = true)
+    public SyncResponseDto sync(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        Long userId = currentUser.getId();
+        SyncCursor cursor = sinceCursor(since);
+        long from = cursor.changeSeq() + 1;
+        long snapshot = collectionVersionService.currentChangeSeq(userId);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        Changes changes = changes(userId, from, snapshot, Limit.of(pageSize + 1));
+        long upTo = snapshot;
+        upTo = cutoff(changes.expenses(), pageSize, Expense::getChangeSeq, upTo);
+        upTo = cutoff(changes.budgets(), pageSize, Budget::getChangeSeq, upTo);
+        upTo = cutoff(changes.goals(), pageSize, FinancialGoal::getChangeSeq, upTo);
+        upTo = cutoff(changes.tombstones(), pageSize, SyncTombstone::getChangeSeq, upTo);
+        if (upTo < snapshot && upTo < from) {
+            // A single sequence value holds more rows than the limit: return all of them.
+            upTo = from;
+            changes = changes(userId, from, from, Limit.unlimited());
+        }
+
+        long last = upTo;
+        var response = new SyncResponseDto();
+        response.setExpenses(changes.expenses().stream()
+                .filter(expense -> expense.getChangeSeq() <= last)
+                .map(SyncController::convertToDto)
+                .toList());
+        response.setBudgets(changes.budgets().stream()
+                .filter(budget -> budget.getChangeSeq() <= last)
+                .map(SyncController::convertToDto)
+                .toList());
+        response.setGoals(changes.goals().stream()
+                .filter(goal -> goal.getChangeSeq() <= last)
+                .map(SyncController::convertToDto)
+                .toList());
+        response.setDeleted(changes.tombstones().stream()
+                .filter(tombstone -> tombstone.getChangeSeq() <= last)
+                .map(tombstone -> new SyncTombstoneDto(tombstone.getCollection(), tombstone.getEntityId()))
+                .toList());
+        boolean hasMore = last < snapshot;
+        Instant issuedAt = hasMore && cursor.issuedAt() != null ? cursor.issuedAt() : Instant.now();
+        response.setNextCursor(new SyncCursor(Math.max(last, from - 1), issuedAt).encode());
+        response.setHasMore(hasMore);
+        return response;
+    }
+
+    private record Changes(
+            List<Expense> expenses, List<Budget> budgets, List<FinancialGoal> goals, List<SyncTombstone> tombstones) {
+    }
+}
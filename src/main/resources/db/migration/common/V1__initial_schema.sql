@@ -0,0 +1,57 @@
+create table users (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    email varchar(255) not null,
+    password varchar(255),
+    phone varchar(255),
+    address varchar(200),
+    city varchar(255),
+    state varchar(255),
+    zip_code varchar(255),
+    auth_provider varchar(255),
+    provider_id varchar(255),
+    image_url varchar(255),
+    email_verified boolean not null default false,
+    constraint uk_users_email unique (email)
+);
+
+create table budgets (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    amount numeric(38, 2) not null,
+    start_date date,
+    end_date date,
+    user_id bigint not null,
+    category varchar(255) not null,
+    current_spent numeric(38, 2),
+    constraint fk_budgets_user foreign key (user_id) references users (id)
+);
+
+create table financial_goals (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    description varchar(255) not null,
+    target_amount numeric(38, 2) not null,
+    current_amount numeric(38, 2),
+    target_date date,
+    user_id bigint not null,
+    status varchar(255),
+    constraint fk_financial_goals_user foreign key (user_id) references users (id)
+);
+
+create sequence expenses_seq start with 1 increment by 50;
+
+create table expenses (
+    id bigint not null primary key,
+    description varchar(255) not null,
+    amount numeric(38, 2) not null,
+    expense_date timestamp(6) not null,
+    category varchar(255) not null,
+    user_id bigint not null,
+    budget_id bigint,
+    payment_method varchar(255),
+    is_recurring boolean not null default false,
+    recurrence_period varchar(255),
+    constraint fk_expenses_user foreign key (user_id) references users (id),
+    constraint fk_expenses_budget foreign key (budget_id) references budgets (id)
+);
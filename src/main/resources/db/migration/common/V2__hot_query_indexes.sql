@@ -0,0 +1,13 @@
+-- Keyset pages, date-range listings and monthly summaries: (user_id, expense_date, id) serves
+-- "order by expense_date desc, id desc" by scanning the index backwards.
+create index if not exists idx_expenses_user_date on expenses (user_id, expense_date, id);
+
+-- Category listings keep the same keyset order inside each category.
+create index if not exists idx_expenses_user_category_date on expenses (user_id, category, expense_date, id);
+
+-- Budget reconciliation, utilisation and the foreign key itself.
+create index if not exists idx_expenses_budget on expenses (budget_id);
+
+create index if not exists idx_budgets_user on budgets (user_id);
+
+create index if not exists idx_financial_goals_user_status on financial_goals (user_id, status);
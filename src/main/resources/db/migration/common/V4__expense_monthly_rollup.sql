@@ -0,0 +1,14 @@
+create table expense_monthly_rollup (
+    user_id bigint not null,
+    year_month varchar(7) not null,
+    category varchar(255) not null,
+    total numeric(38, 2) not null,
+    expense_count bigint not null,
+    constraint pk_expense_monthly_rollup primary key (user_id, year_month, category),
+    constraint fk_expense_monthly_rollup_user foreign key (user_id) references users (id)
+);
+
+insert into expense_monthly_rollup (user_id, year_month, category, total, expense_count)
+select user_id, to_char(expense_date, 'YYYY-MM'), category, sum(amount), count(*)
+from expenses
+group by user_id, to_char(expense_date, 'YYYY-MM'), category;
@@ -0,0 +1,17 @@
+alter table expenses add column recurrence_source_id bigint;
+alter table expenses add column next_occurrence_date timestamp(6);
+
+alter table expenses add constraint fk_expenses_recurrence_source
+    foreign key (recurrence_source_id) references expenses (id) on delete set null;
+
+create unique index uk_expenses_recurrence_occurrence on expenses (recurrence_source_id, expense_date);
+create index idx_expenses_recurring_due on expenses (user_id, is_recurring, next_occurrence_date);
+
+create table scheduler_checkpoints (
+    name varchar(100) not null primary key,
+    last_user_id bigint not null,
+    updated_at timestamp(6),
+    completed_at timestamp(6)
+);
+
+insert into scheduler_checkpoints (name, last_user_id) values ('recurring-expenses', 0);
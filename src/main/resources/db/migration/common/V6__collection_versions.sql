@@ -0,0 +1,9 @@
+create table collection_versions (
+    user_id bigint not null primary key,
+    expenses_version bigint not null default 0,
+    budgets_version bigint not null default 0,
+    goals_version bigint not null default 0,
+    constraint fk_collection_versions_user foreign key (user_id) references users (id)
+);
+
+insert into collection_versions (user_id) select id from users;
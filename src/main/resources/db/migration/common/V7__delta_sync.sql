@@ -0,0 +1,22 @@
+alter table collection_versions add column change_seq bigint not null default 0;
+
+alter table expenses add column change_seq bigint not null default 0;
+alter table budgets add column change_seq bigint not null default 0;
+alter table financial_goals add column change_seq bigint not null default 0;
+
+create index idx_expenses_user_change_seq on expenses (user_id, change_seq);
+create index idx_budgets_user_change_seq on budgets (user_id, change_seq);
+create index idx_financial_goals_user_change_seq on financial_goals (user_id, change_seq);
+
+create table sync_tombstones (
+    id bigint generated by default as identity primary key,
+    user_id bigint not null,
+    collection varchar(20) not null,
+    entity_id bigint not null,
+    change_seq bigint not null,
+    deleted_at timestamp(6) not null,
+    constraint fk_sync_tombstones_user foreign key (user_id) references users (id)
+);
+
+create index idx_sync_tombstones_user_change_seq on sync_tombstones (user_id, change_seq);
+create index idx_sync_tombstones_deleted_at on sync_tombstones (deleted_at);
@@ -0,0 +1,12 @@
+create sequence expense_outbox_seq start with 1 increment by 50;
+
+create table expense_outbox (
+    id bigint primary key,
+    user_id bigint not null,
+    expense_id bigint not null,
+    budget_id bigint not null,
+    amount numeric(38, 2) not null,
+    recorded_at timestamp(6) not null
+);
+
+alter table budgets add column alert_level integer not null default 0;
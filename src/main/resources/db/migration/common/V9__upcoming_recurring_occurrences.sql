@@ -0,0 +1,6 @@
+-- Recurring occurrences are created ahead of their date but only count towards budgets and
+-- monthly rollups once they fall due. Every expense written so far has already been credited.
+alter table expenses add column posted boolean not null default true;
+
+-- The posting pass looks for unposted occurrences that are due.
+create index idx_expenses_unposted on expenses (posted, expense_date);
@@ -0,0 +1,6 @@
+-- Databases created by ddl-auto before these migrations existed already hold expense ids that a
+-- fresh expenses_seq would hand out again; move the sequence past them. Hibernate's pooled
+-- optimizer treats each sequence value as the top of a 50-id block, hence the + 50.
+create sequence if not exists expenses_seq start with 1 increment by 50;
+
+select setval('expenses_seq', (select coalesce(max(id), 0) + 50 from expenses), false);
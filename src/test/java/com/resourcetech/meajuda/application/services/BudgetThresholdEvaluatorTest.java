@@ -0,0 +1,77 @@
+package com.resourcetech.meajuda.application.services;
+
+import com.resourcetech.meajuda.application.events.BudgetAlert;
+import com.resourcetech.meajuda.domain.entities.Budget;
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BudgetThresholdEvaluatorTest {
+
+    private BudgetRepository budgetRepository;
+    private BudgetThresholdEvaluator evaluator;
+    private Budget budget;
+
+    @BeforeEach
+    void setUp() {
+        budgetRepository = mock(BudgetRepository.class);
+        evaluator = new BudgetThresholdEvaluator(budgetRepository);
+
+        var user = new User();
+        user.setId(1L);
+        budget = new Budget();
+        budget.setId(10L);
+        budget.setName("Food");
+        budget.setAmount(new BigDecimal("100.00"));
+        budget.setUser(user);
+        when(budgetRepository.findAllById(Set.of(10L))).thenReturn(List.of(budget));
+    }
+
+    private List<BudgetAlert> evaluateAt(String spent) {
+        budget.setCurrentSpent(new BigDecimal(spent));
+        return evaluator.evaluate(Set.of(10L));
+    }
+
+    @Test
+    public void testThresholdReached() {
+        assertEquals(0, BudgetThresholdEvaluator.thresholdReached(new BigDecimal("79.99"), new BigDecimal("100")));
+        assertEquals(80, BudgetThresholdEvaluator.thresholdReached(new BigDecimal("80"), new BigDecimal("100")));
+        assertEquals(100, BudgetThresholdEvaluator.thresholdReached(new BigDecimal("150"), new BigDecimal("100")));
+        assertEquals(0, BudgetThresholdEvaluator.thresholdReached(null, new BigDecimal("100")));
+        assertEquals(0, BudgetThresholdEvaluator.thresholdReached(new BigDecimal("10"), BigDecimal.ZERO));
+    }
+
+    @Test
+    public void testAlertsOncePerCrossing() {
+        List<BudgetAlert> alerts = evaluateAt("85.00");
+        assertEquals(1, alerts.size());
+        assertEquals(80, alerts.get(0).thresholdPercent());
+        assertEquals(80, budget.getAlertLevel());
+
+        assertTrue(evaluateAt("90.00").isEmpty());
+
+        alerts = evaluateAt("100.00");
+        assertEquals(1, alerts.size());
+        assertEquals(100, alerts.get(0).thresholdPercent());
+    }
+
+    @Test
+    public void testDroppingBelowThresholdRearmsIt() {
+        evaluateAt("85.00");
+
+        assertTrue(evaluateAt("50.00").isEmpty());
+        assertEquals(0, budget.getAlertLevel());
+
+        assertEquals(80, evaluateAt("81.00").get(0).thresholdPercent());
+    }
+}
@@ -0,0 +1,65 @@
+package com.resourcetech.meajuda.application.services;
+
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "app.alerts.dispatcher-enabled=false")
+public class CollectionVersionServiceTest {
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        testUser = new User();
+        testUser.setName("Version User");
+        testUser.setEmail("versions-" + UUID.randomUUID() + "@example.com");
+        testUser = userRepository.save(testUser);
+    }
+
+    private long bump(VersionedCollection... collections) {
+        return transactionTemplate.execute(status -> collectionVersionService.bump(testUser.getId(), collections));
+    }
+
+    @Test
+    public void testBumpCreatesMissingRow() {
+        assertEquals(1, bump(VersionedCollection.EXPENSES, VersionedCollection.BUDGETS));
+
+        assertEquals(1, collectionVersionService.currentVersion(testUser.getId(), VersionedCollection.EXPENSES));
+        assertEquals(1, collectionVersionService.currentVersion(testUser.getId(), VersionedCollection.BUDGETS));
+        assertEquals(0, collectionVersionService.currentVersion(testUser.getId(), VersionedCollection.GOALS));
+    }
+
+    @Test
+    public void testBumpIncrementsExistingRow() {
+        collectionVersionService.create(testUser.getId());
+
+        assertEquals(1, bump(VersionedCollection.GOALS));
+        assertEquals(2, bump(VersionedCollection.GOALS, VersionedCollection.GOALS));
+
+        assertEquals(2, collectionVersionService.currentVersion(testUser.getId(), VersionedCollection.GOALS));
+        assertEquals(0, collectionVersionService.currentVersion(testUser.getId(), VersionedCollection.EXPENSES));
+        assertEquals(2, collectionVersionService.currentChangeSeq(testUser.getId()));
+    }
+}
@@ -0,0 +1,127 @@
+package com.resourcetech.meajuda.application.services;
+
+import com.resourcetech.meajuda.application.dtos.MonthlyCategoryTotalDto;
+import com.resourcetech.meajuda.domain.entities.CollectionVersion;
+import com.resourcetech.meajuda.domain.entities.Expense;
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import com.resourcetech.meajuda.domain.repositories.CollectionVersionRepository;
+import com.resourcetech.meajuda.domain.repositories.ExpenseMonthlyRollupRepository;
+import com.resourcetech.meajuda.domain.repositories.ExpenseRepository;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "app.alerts.dispatcher-enabled=false")
+public class ExpenseRollupServiceTest {
+
+    @Autowired
+    private ExpenseRollupService expenseRollupService;
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
+    @Autowired
+    private ExpenseMonthlyRollupRepository rollupRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CollectionVersionRepository collectionVersionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        testUser = new User();
+        testUser.setName("Rollup User");
+        testUser.setEmail("rollup-" + UUID.randomUUID() + "@example.com");
+        testUser = userRepository.save(testUser);
+        collectionVersionRepository.save(new CollectionVersion(testUser.getId(), 0, 0, 0, 0));
+    }
+
+    private List<MonthlyCategoryTotalDto> trend() {
+        return rollupRepository.findTrend(testUser.getId(), "2024-01", "2024-12");
+    }
+
+    private void write(BigDecimal amount) {
+        transactionTemplate.executeWithoutResult(status -> {
+            collectionVersionService.bump(testUser.getId(), VersionedCollection.EXPENSES);
+            expenseRollupService.apply(testUser.getId(), "2024-03", "Food", amount, 1);
+        });
+    }
+
+    @Test
+    public void testApplyCreatesAndThenIncrementsBucket() {
+        write(new BigDecimal("10.00"));
+        write(new BigDecimal("2.50"));
+
+        List<MonthlyCategoryTotalDto> trend = trend();
+        assertEquals(1, trend.size());
+        assertEquals(0, new BigDecimal("12.50").compareTo(trend.get(0).getTotal()));
+        assertEquals(2, trend.get(0).getCount());
+    }
+
+    @Test
+    public void testConcurrentFirstWritesToSameBucketBothCommit() throws Exception {
+        var start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> writers = List.of(
+                CompletableFuture.runAsync(() -> awaitThenWrite(start)),
+                CompletableFuture.runAsync(() -> awaitThenWrite(start)));
+        start.countDown();
+        CompletableFuture.allOf(writers.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, trend().get(0).getCount());
+    }
+
+    private void awaitThenWrite(CountDownLatch start) {
+        try {
+            start.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        write(new BigDecimal("5.00"));
+    }
+
+    @Test
+    public void testRebuildRecomputesFromExpenses() {
+        write(new BigDecimal("99.00"));
+        var expense = new Expense();
+        expense.setDescription("Lunch");
+        expense.setAmount(new BigDecimal("12.50"));
+        expense.setExpenseDate(LocalDateTime.of(2024, 3, 15, 12, 0));
+        expense.setCategory("Food");
+        expense.setUser(testUser);
+        expenseRepository.save(expense);
+
+        assertEquals(1, expenseRollupService.rebuild(testUser.getId()));
+
+        List<MonthlyCategoryTotalDto> trend = trend();
+        assertEquals(0, new BigDecimal("12.50").compareTo(trend.get(0).getTotal()));
+        assertEquals(1, trend.get(0).getCount());
+    }
+}
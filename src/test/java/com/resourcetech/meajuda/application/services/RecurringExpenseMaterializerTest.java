@@ -0,0 +1,197 @@
+package com.resourcetech.meajuda.application.services;
+
+import com.resourcetech.meajuda.domain.entities.Budget;
+import com.resourcetech.meajuda.domain.entities.Expense;
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import com.resourcetech.meajuda.domain.repositories.ExpenseRepository;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "app.recurrence.horizon-days=14",
+        "app.alerts.dispatcher-enabled=false"
+})
+public class RecurringExpenseMaterializerTest {
+
+    @Autowired
+    private RecurringExpenseMaterializer materializer;
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private LocalDateTime now;
+    private User testUser;
+    private Budget testBudget;
+    private Expense template;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        testUser = new User();
+        testUser.setName("Recurring User");
+        testUser.setEmail("recurring-" + UUID.randomUUID() + "@example.com");
+        testUser = userRepository.save(testUser);
+        collectionVersionService.create(testUser.getId());
+
+        testBudget = new Budget();
+        testBudget.setName("Subscriptions");
+        testBudget.setAmount(new BigDecimal("1000.00"));
+        testBudget.setCategory("Bills");
+        testBudget.setStartDate(LocalDate.now().minusMonths(1));
+        testBudget.setUser(testUser);
+        testBudget = budgetRepository.save(testBudget);
+
+        LocalDateTime anchor = now.minusWeeks(3).minusDays(1);
+        template = new Expense();
+        template.setDescription("Streaming");
+        template.setAmount(new BigDecimal("10.00"));
+        template.setExpenseDate(anchor);
+        template.setCategory("Bills");
+        template.setRecurring(true);
+        template.setRecurrencePeriod("WEEKLY");
+        template.setNextOccurrenceDate(anchor.plusWeeks(1));
+        template.setUser(testUser);
+        template.setBudget(testBudget);
+        template = expenseRepository.save(template);
+    }
+
+    private Expense occurrence(LocalDateTime date) {
+        var expense = new Expense();
+        expense.setDescription(template.getDescription());
+        expense.setAmount(template.getAmount());
+        expense.setExpenseDate(date);
+        expense.setCategory(template.getCategory());
+        expense.setUser(testUser);
+        expense.setBudget(testBudget);
+        expense.setRecurrenceSourceId(template.getId());
+        return expenseRepository.save(expense);
+    }
+
+    private int materialize() {
+        return materialize(now);
+    }
+
+    private int materialize(LocalDateTime at) {
+        return transactionTemplate.execute(status -> materializer.materialize(testUser.getId(), testUser.getId(), at));
+    }
+
+    private List<Expense> occurrences() {
+        return expenseRepository.findByUserId(testUser.getId()).stream()
+                .filter(expense -> template.getId().equals(expense.getRecurrenceSourceId()))
+                .toList();
+    }
+
+    private BigDecimal currentSpent() {
+        return budgetRepository.findById(testBudget.getId()).orElseThrow().getCurrentSpent();
+    }
+
+    @Test
+    public void testMaterializesUpToHorizonAndCreditsOnlyDueOccurrences() {
+        assertEquals(5, materialize());
+
+        List<Expense> occurrences = occurrences();
+        assertEquals(5, occurrences.size());
+        assertEquals(3, occurrences.stream().filter(Expense::isPosted).count());
+        assertTrue(occurrences.stream().allMatch(expense -> expense.isPosted() == !expense.getExpenseDate().isAfter(now)));
+        assertEquals(0, new BigDecimal("30.00").compareTo(currentSpent()));
+        assertTrue(expenseRepository.findById(template.getId()).orElseThrow().getNextOccurrenceDate()
+                .isAfter(now.plusDays(14)));
+
+        assertEquals(0, materialize());
+        assertEquals(0, new BigDecimal("30.00").compareTo(currentSpent()));
+    }
+
+    @Test
+    public void testUpcomingOccurrenceIsPostedOnceDue() {
+        materialize();
+
+        assertEquals(1, materialize(now.plusWeeks(1)));
+
+        assertEquals(6, occurrences().size());
+        assertEquals(4, occurrences().stream().filter(Expense::isPosted).count());
+        assertEquals(0, new BigDecimal("40.00").compareTo(currentSpent()));
+    }
+
+    @Test
+    public void testExistingOccurrenceIsSkippedInsteadOfFailing() {
+        occurrence(template.getExpenseDate().plusWeeks(2));
+
+        assertEquals(4, materialize());
+
+        assertEquals(5, occurrences().size());
+        assertEquals(0, new BigDecimal("20.00").compareTo(currentSpent()));
+    }
+
+    @Test
+    public void testDiscardUpcomingRemovesAndDebitsFutureOccurrences() {
+        occurrence(now.minusDays(1));
+        occurrence(now.plusWeeks(1));
+        budgetRepository.findById(testBudget.getId()).ifPresent(budget -> {
+            budget.setCurrentSpent(new BigDecimal("20.00"));
+            budgetRepository.save(budget);
+        });
+
+        int discarded = transactionTemplate.execute(status -> materializer.discardUpcoming(
+                testUser.getId(), expenseRepository.findById(template.getId()).orElseThrow(), now));
+
+        assertEquals(1, discarded);
+        List<Expense> remaining = occurrences();
+        assertEquals(1, remaining.size());
+        assertEquals(now.minusDays(1), remaining.get(0).getExpenseDate());
+        assertEquals(0, new BigDecimal("10.00").compareTo(currentSpent()));
+    }
+
+    @Test
+    public void testDiscardedOccurrencesAreRecreatedFromEditedTemplate() {
+        materialize();
+
+        int discarded = transactionTemplate.execute(status -> {
+            Expense edited = expenseRepository.findById(template.getId()).orElseThrow();
+            int count = materializer.discardUpcoming(testUser.getId(), edited, now);
+            edited.setAmount(new BigDecimal("12.00"));
+            expenseRepository.save(edited);
+            return count;
+        });
+
+        assertEquals(2, discarded);
+        assertEquals(0, new BigDecimal("30.00").compareTo(currentSpent()));
+        assertEquals(2, materialize());
+        List<Expense> upcoming = occurrences().stream()
+                .filter(expense -> expense.getExpenseDate().isAfter(now))
+                .toList();
+        assertEquals(2, upcoming.size());
+        assertTrue(upcoming.stream().allMatch(expense -> new BigDecimal("12.00").compareTo(expense.getAmount()) == 0));
+        assertEquals(0, new BigDecimal("30.00").compareTo(currentSpent()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.resourcetech.meajuda.infrastructure.alerts;
+
+import com.resourcetech.meajuda.application.events.BudgetAlert;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WebhookBudgetAlertSinkTest {
+
+    private final AtomicInteger status = new AtomicInteger(204);
+    private final AtomicInteger delayMs = new AtomicInteger();
+    private final AtomicReference<String> received = new AtomicReference<>();
+    private HttpServer server;
+    private WebhookBudgetAlertSink sink;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/budget-alerts", exchange -> {
+            received.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            try {
+                Thread.sleep(delayMs.get());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        server.start();
+
+        var appProperties = new AppProperties();
+        appProperties.getAlerts().setWebhookUrl("http://localhost:" + server.getAddress().getPort() + "/budget-alerts");
+        appProperties.getAlerts().setWebhookReadTimeoutMs(200);
+        sink = new WebhookBudgetAlertSink(RestClient.builder(), appProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private List<BudgetAlert> alerts() {
+        return List.of(new BudgetAlert(1L, 10L, "Food", 80, new BigDecimal("85.00"), new BigDecimal("100.00")));
+    }
+
+    @Test
+    public void testPostsAlertsAsJson() {
+        sink.deliver(alerts());
+
+        assertTrue(received.get().contains("\"budgetId\":10"));
+        assertTrue(received.get().contains("\"thresholdPercent\":80"));
+    }
+
+    @Test
+    public void testErrorResponseThrows() {
+        status.set(503);
+
+        assertThrows(RestClientResponseException.class, () -> sink.deliver(alerts()));
+    }
+
+    @Test
+    public void testSlowReceiverTimesOut() {
+        delayMs.set(2_000);
+
+        assertThrows(ResourceAccessException.class, () -> sink.deliver(alerts()));
+    }
+}
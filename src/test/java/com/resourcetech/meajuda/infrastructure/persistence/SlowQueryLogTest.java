@@ -0,0 +1,90 @@
+package com.resourcetech.meajuda.infrastructure.persistence;
+
+import com.resourcetech.meajuda.domain.entities.CollectionVersion;
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.repositories.CollectionVersionRepository;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.database.slow-query-threshold-ms=0",
+        "app.alerts.dispatcher-enabled=false"
+})
+@AutoConfigureMockMvc
+public class SlowQueryLogTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CollectionVersionRepository collectionVersionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Test
+    public void testStatementsAreAggregatedByShapeWithoutLiterals() throws Exception {
+        String email = "slow-" + UUID.randomUUID() + "@example.com";
+        var testUser = new User();
+        testUser.setName("Slow User");
+        testUser.setEmail(email);
+        testUser = userRepository.save(testUser);
+        collectionVersionRepository.save(new CollectionVersion(testUser.getId(), 0, 0, 0, 0));
+        jdbcTemplate.queryForList("select id from users where email = '" + email + "' and id in (1, 2, 3)");
+        jdbcTemplate.queryForList("select id from users where email = 'other@example.com' and id in (4)");
+
+        mockMvc.perform(get("/api/budgets").with(user(UserPrincipal.create(testUser))))
+                .andExpect(status().isOk());
+
+        var counts = slowQueryLog.counts();
+        assertTrue(counts.keySet().stream().anyMatch(shape -> shape.contains("from budgets")), counts::toString);
+        assertTrue(counts.keySet().stream().noneMatch(shape -> shape.contains(email)), counts::toString);
+        assertEquals(2L, counts.get("select id from users where email = ? and id in (?)"), counts::toString);
+    }
+
+    @Test
+    public void testShapeReplacesStringLiterals() {
+        assertEquals("select id from users where email = ? and name = ?",
+                SlowQueryLog.shapeOf("select id from users where email = 'o''brien@example.com' and name = 'Ann'"));
+    }
+
+    @Test
+    public void testShapeReplacesNumbersButKeepsAliases() {
+        assertEquals("select e1_0.id from expenses e1_0 where e1_0.user_id = ? and e1_0.amount > ? limit ?",
+                SlowQueryLog.shapeOf("select e1_0.id from expenses e1_0 where e1_0.user_id = 42 and e1_0.amount > 10.50 limit 51"));
+    }
+
+    @Test
+    public void testShapeCollapsesInLists() {
+        String expected = "select id from budgets where id in (?) and category in (?)";
+
+        assertEquals(expected, SlowQueryLog.shapeOf("select id from budgets where id in (1, 2, 3) and category IN ('Food','Rent')"));
+        assertEquals(expected, SlowQueryLog.shapeOf("select id from budgets where id in (?,?,?,?) and category in (?)"));
+    }
+
+    @Test
+    public void testShapeNormalisesWhitespace() {
+        assertEquals("select id from users where id = ?",
+                SlowQueryLog.shapeOf("select id\n    from users\twhere id = 7  "));
+    }
+}
@@ -0,0 +1,92 @@
+package com.resourcetech.meajuda.infrastructure.scheduling;
+
+import com.resourcetech.meajuda.application.events.BudgetAlert;
+import com.resourcetech.meajuda.application.events.BudgetAlertSink;
+import com.resourcetech.meajuda.application.services.BudgetThresholdEvaluator;
+import com.resourcetech.meajuda.domain.entities.ExpenseOutboxEvent;
+import com.resourcetech.meajuda.domain.repositories.ExpenseOutboxEventRepository;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ExpenseOutboxDispatcherTest {
+
+    private ExpenseOutboxEventRepository outboxRepository;
+    private BudgetAlertSink alertSink;
+    private PlatformTransactionManager transactionManager;
+    private AppProperties appProperties;
+    private ExpenseOutboxDispatcher dispatcher;
+    private List<ExpenseOutboxEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(ExpenseOutboxEventRepository.class);
+        alertSink = mock(BudgetAlertSink.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        var thresholdEvaluator = mock(BudgetThresholdEvaluator.class);
+        appProperties = new AppProperties();
+        appProperties.getAlerts().setMaxDeliveryAttempts(3);
+        appProperties.getAlerts().setPollIntervalMs(1_000);
+        appProperties.getAlerts().setMaxRetryBackoffMs(5_000);
+        dispatcher = new ExpenseOutboxDispatcher(
+                outboxRepository, thresholdEvaluator, alertSink, appProperties, transactionManager);
+
+        events = List.of(new ExpenseOutboxEvent(1L, 1L, 100L, 10L, new BigDecimal("90.00"), LocalDateTime.now()));
+        when(outboxRepository.findBatchForUpdate(any(Limit.class))).thenReturn(events);
+        when(thresholdEvaluator.evaluate(Set.of(10L))).thenReturn(List.of(
+                new BudgetAlert(1L, 10L, "Food", 80, new BigDecimal("90.00"), new BigDecimal("100.00"))));
+    }
+
+    @Test
+    public void testDeliveredBatchIsDeleted() {
+        assertEquals(1, dispatcher.dispatchBatch(200));
+
+        verify(alertSink).deliver(any());
+        verify(outboxRepository).deleteAllInBatch(events);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void testFailedDeliveryRollsBackAndBacksOff() {
+        doThrow(new IllegalStateException("webhook down")).when(alertSink).deliver(any());
+
+        assertThrows(IllegalStateException.class, () -> dispatcher.dispatchBatch(200));
+        assertEquals(1_000, dispatcher.retryBackoffMs());
+        assertThrows(IllegalStateException.class, () -> dispatcher.dispatchBatch(200));
+        assertEquals(2_000, dispatcher.retryBackoffMs());
+
+        verify(outboxRepository, never()).deleteAllInBatch(any());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    public void testPoisonBatchIsDroppedAfterMaxAttempts() {
+        doThrow(new IllegalStateException("bad payload")).when(alertSink).deliver(any());
+
+        assertThrows(IllegalStateException.class, () -> dispatcher.dispatchBatch(200));
+        assertThrows(IllegalStateException.class, () -> dispatcher.dispatchBatch(200));
+        assertEquals(1, dispatcher.dispatchBatch(200));
+
+        verify(outboxRepository).deleteAllInBatch(events);
+        assertEquals(1_000, dispatcher.retryBackoffMs());
+    }
+}
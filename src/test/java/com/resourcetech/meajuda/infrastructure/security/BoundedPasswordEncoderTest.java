@@ -0,0 +1,98 @@
+package com.resourcetech.meajuda.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+        };
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    public void testRejectsOnceWorkersAndQueueAreFull() throws Exception {
+        var running = new AtomicReference<String>();
+        var queued = new AtomicReference<String>();
+        Thread first = Thread.ofPlatform().start(() -> running.set(encoder.encode("first")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Thread second = Thread.ofPlatform().start(() -> queued.set(encoder.encode("second")));
+        awaitWaiting(second);
+
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("third"));
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.matches("third", "hash:third"));
+
+        release.countDown();
+        first.join(5_000);
+        second.join(5_000);
+        assertEquals("hash:first", running.get());
+        assertEquals("hash:second", queued.get());
+        assertEquals("hash:fourth", encoder.encode("fourth"));
+    }
+
+    @Test
+    public void testPropagatesDelegateFailures() {
+        var failing = new BoundedPasswordEncoder(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new IllegalArgumentException("bad password");
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        }, 1, 1);
+        try {
+            var ex = assertThrows(IllegalArgumentException.class, () -> failing.encode("x"));
+            assertEquals("bad password", ex.getMessage());
+        } finally {
+            failing.close();
+        }
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(Thread.State.WAITING, thread.getState());
+    }
+}
@@ -0,0 +1,141 @@
+package com.resourcetech.meajuda.infrastructure.security;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SecurityEventLogTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger("meajuda.security");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private AppProperties appProperties;
+    private SecurityEventLog securityEventLog;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+
+        appProperties = new AppProperties();
+        appProperties.getAuth().setFailureLogBurst(3);
+        appProperties.getAuth().setFailureLogSampleEvery(5);
+        appProperties.getAuth().setJwtSecret("security-event-log-test-secret");
+        appProperties.getAuth().setJwtExpirationMs(60_000);
+        securityEventLog = new SecurityEventLog(appProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    public void testLogsBurstThenEverySampledOccurrence() {
+        for (int i = 0; i < 12; i++) {
+            securityEventLog.failure("token_expired");
+        }
+
+        assertEquals(List.of(
+                "auth_failure type=token_expired occurrence=1",
+                "auth_failure type=token_expired occurrence=2",
+                "auth_failure type=token_expired occurrence=3",
+                "auth_failure type=token_expired occurrence=5",
+                "auth_failure type=token_expired occurrence=10"), messages());
+    }
+
+    @Test
+    public void testBurstIsCountedPerFailureType() {
+        for (int i = 0; i < 4; i++) {
+            securityEventLog.failure("token_expired");
+        }
+        securityEventLog.failure("unknown_user");
+
+        assertEquals("auth_failure type=unknown_user occurrence=1", messages().get(3));
+        assertEquals(4, messages().size());
+    }
+
+    @Test
+    public void testSummaryReportsCountsAndStartsNewInterval() {
+        for (int i = 0; i < 4; i++) {
+            securityEventLog.failure("token_expired");
+        }
+        securityEventLog.failure("unknown_user");
+        appender.list.clear();
+
+        securityEventLog.logSummary();
+        assertEquals(List.of("auth_failure_summary {token_expired=4, unknown_user=1}"), messages());
+
+        appender.list.clear();
+        securityEventLog.failure("token_expired");
+        assertEquals(List.of("auth_failure type=token_expired occurrence=1"), messages());
+    }
+
+    @Test
+    public void testSummaryIsSkippedForQuietInterval() {
+        securityEventLog.failure("token_expired");
+        securityEventLog.logSummary();
+        appender.list.clear();
+
+        securityEventLog.logSummary();
+
+        assertEquals(List.of(), messages());
+    }
+
+    @Test
+    public void testSummariesKeepEveryConcurrentFailure() throws Exception {
+        var threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    securityEventLog.failure("token_expired");
+                }
+            }));
+        }
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            securityEventLog.logSummary();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        securityEventLog.logSummary();
+
+        long total = messages().stream()
+                .filter(message -> message.startsWith("auth_failure_summary"))
+                .mapToLong(message -> Long.parseLong(message.replaceAll("\\D", "")))
+                .sum();
+        assertEquals(40_000, total);
+    }
+
+    @Test
+    public void testRejectedTokenIsResolvedAndLoggedOncePerRequest() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var tokenProvider = new JwtTokenProvider(appProperties, meterRegistry, securityEventLog);
+        var request = new MockHttpServletRequest();
+
+        assertNull(tokenProvider.resolveUserId(request, "not-a-token"));
+        assertNull(tokenProvider.resolveUserId(request, "not-a-token"));
+
+        assertEquals(List.of("auth_failure type=token_malformed occurrence=1"), messages());
+        assertEquals(1.0, meterRegistry.counter("auth.token.rejections", "reason", "malformed").count());
+
+        tokenProvider.resolveUserId(new MockHttpServletRequest(), "not-a-token");
+        assertEquals(2.0, meterRegistry.counter("auth.token.rejections", "reason", "malformed").count());
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+}
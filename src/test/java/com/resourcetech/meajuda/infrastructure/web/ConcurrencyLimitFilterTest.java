@@ -0,0 +1,47 @@
+package com.resourcetech.meajuda.infrastructure.web;
+
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        var appProperties = new AppProperties();
+        appProperties.getConcurrency().setMaxInFlightRequests(1);
+        appProperties.getConcurrency().setAcquireTimeoutMs(0);
+        filter = new ConcurrencyLimitFilter(appProperties);
+    }
+
+    @Test
+    public void testPermitIsReleasedAfterSynchronousRequest() throws Exception {
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (req, res) -> {
+            assertEquals(0, filter.availablePermits());
+        });
+
+        assertEquals(1, filter.availablePermits());
+    }
+
+    @Test
+    public void testAsyncRequestKeepsPermitUntilComplete() throws Exception {
+        var request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        assertEquals(0, filter.availablePermits());
+
+        var rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(), rejected, (req, res) -> { });
+        assertEquals(503, rejected.getStatus());
+
+        request.getAsyncContext().complete();
+        assertEquals(1, filter.availablePermits());
+    }
+}
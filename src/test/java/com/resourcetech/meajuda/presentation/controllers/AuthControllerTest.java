@@ -3,15 +3,18 @@ package com.resourcetech.meajuda.presentation.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resourcetech.meajuda.application.dtos.LoginRequestDto;
 import com.resourcetech.meajuda.application.dtos.SignUpRequestDto;
+import com.resourcetech.meajuda.application.services.CollectionVersionService;
 import com.resourcetech.meajuda.domain.entities.User;
 import com.resourcetech.meajuda.domain.repositories.UserRepository;
 import com.resourcetech.meajuda.infrastructure.security.JwtTokenProvider;
+import com.resourcetech.meajuda.infrastructure.security.PasswordHashingBusyException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -19,6 +22,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,6 +46,9 @@ public class AuthControllerTest {
     @MockBean
     private JwtTokenProvider tokenProvider;
 
+    @MockBean
+    private CollectionVersionService collectionVersionService;
+
     private LoginRequestDto loginRequest;
     private SignUpRequestDto signUpRequest;
     private User testUser;
@@ -88,6 +95,17 @@ public class AuthControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    public void testLoginRejectedWhenHashingSaturated() throws Exception {
+        when(authenticationManager.authenticate(any())).thenThrow(new PasswordHashingBusyException());
+
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
     @Test
     public void testSignUpSuccess() throws Exception {
         when(userRepository.existsByEmail(signUpRequest.getEmail())).thenReturn(false);
@@ -99,6 +117,8 @@ public class AuthControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(header().exists("Location"))
                 .andExpect(content().string("User registered successfully"));
+
+        verify(collectionVersionService).create(1L);
     }
 
     @Test
@@ -0,0 +1,102 @@
+package com.resourcetech.meajuda.presentation.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resourcetech.meajuda.application.dtos.LoginRequestDto;
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Logs in through the real authentication manager, so the password upgrade path of
+ * {@code DaoAuthenticationProvider} and {@code CustomUserDetailsService.updatePassword} runs.
+ */
+@SpringBootTest(properties = {
+        "app.auth.bcrypt-strength=10",
+        "app.alerts.dispatcher-enabled=false"
+})
+@AutoConfigureMockMvc
+public class AuthLoginRehashTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    public void testLoginUpgradesUnprefixedHash() throws Exception {
+        String email = saveUser(new BCryptPasswordEncoder(10).encode(PASSWORD));
+
+        login(email);
+
+        String stored = userRepository.findByEmail(email).orElseThrow().getPassword();
+        assertTrue(stored.startsWith("{bcrypt}$2a$10$"), stored);
+        assertTrue(passwordEncoder.matches(PASSWORD, stored));
+    }
+
+    @Test
+    public void testLoginUpgradesLowerCostHash() throws Exception {
+        String email = saveUser("{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        login(email);
+
+        String stored = userRepository.findByEmail(email).orElseThrow().getPassword();
+        assertTrue(stored.startsWith("{bcrypt}$2a$10$"), stored);
+        assertTrue(passwordEncoder.matches(PASSWORD, stored));
+    }
+
+    @Test
+    public void testLoginKeepsCurrentHash() throws Exception {
+        String current = passwordEncoder.encode(PASSWORD);
+        String email = saveUser(current);
+
+        login(email);
+
+        assertEquals(current, userRepository.findByEmail(email).orElseThrow().getPassword());
+        assertFalse(passwordEncoder.upgradeEncoding(current));
+    }
+
+    private String saveUser(String passwordHash) {
+        var user = new User();
+        user.setName("Rehash User");
+        user.setEmail("rehash-" + UUID.randomUUID() + "@example.com");
+        user.setPassword(passwordHash);
+        return userRepository.save(user).getEmail();
+    }
+
+    private void login(String email) throws Exception {
+        var loginRequest = new LoginRequestDto();
+        loginRequest.setEmail(email);
+        loginRequest.setPassword(PASSWORD);
+
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").exists());
+    }
+}
@@ -2,9 +2,13 @@ package com.resourcetech.meajuda.presentation.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resourcetech.meajuda.application.dtos.BudgetDto;
+import com.resourcetech.meajuda.application.dtos.BudgetUtilisationDto;
+import com.resourcetech.meajuda.application.services.CollectionVersionService;
 import com.resourcetech.meajuda.domain.entities.Budget;
 import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
 import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import com.resourcetech.meajuda.domain.repositories.SyncTombstoneRepository;
 import com.resourcetech.meajuda.domain.repositories.UserRepository;
 import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -20,11 +25,15 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -44,6 +53,12 @@ public class BudgetControllerTest {
     @MockBean
     private UserRepository userRepository;
 
+    @MockBean
+    private CollectionVersionService collectionVersionService;
+
+    @MockBean
+    private SyncTombstoneRepository syncTombstoneRepository;
+
     private User testUser;
     private Budget testBudget;
     private BudgetDto testBudgetDto;
@@ -72,10 +87,43 @@ public class BudgetControllerTest {
         testBudgetDto.setEndDate(LocalDate.now().plusMonths(1));
     }
 
+    @Test
+    public void testGetBudgetsNotModified() throws Exception {
+        var principal = UserPrincipal.create(testUser);
+        when(collectionVersionService.currentVersions(1L, VersionedCollection.BUDGETS)).thenReturn(new long[] {7L});
+        when(budgetRepository.findDtosByUserId(1L)).thenReturn(Arrays.asList(testBudgetDto));
+
+        String etag = mockMvc.perform(get("/api/budgets").with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/budgets").with(user(principal)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verify(budgetRepository, times(1)).findDtosByUserId(1L);
+    }
+
+    @Test
+    public void testGetBudgetsModifiedAfterWrite() throws Exception {
+        var principal = UserPrincipal.create(testUser);
+        when(collectionVersionService.currentVersions(1L, VersionedCollection.BUDGETS))
+                .thenReturn(new long[] {7L}, new long[] {8L});
+        when(budgetRepository.findDtosByUserId(1L)).thenReturn(Arrays.asList(testBudgetDto));
+
+        String etag = mockMvc.perform(get("/api/budgets").with(user(principal)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/budgets").with(user(principal)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value(testBudget.getName()));
+    }
+
     @Test
     @WithMockUser
     public void testGetBudgets() throws Exception {
-        when(budgetRepository.findByUserId(any())).thenReturn(Arrays.asList(testBudget));
+        when(budgetRepository.findDtosByUserId(any())).thenReturn(Arrays.asList(testBudgetDto));
 
         mockMvc.perform(get("/api/budgets"))
                 .andExpect(status().isOk())
@@ -86,7 +134,7 @@ public class BudgetControllerTest {
     @Test
     @WithMockUser
     public void testCreateBudget() throws Exception {
-        when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
+        when(userRepository.getReferenceById(any())).thenReturn(testUser);
         when(budgetRepository.save(any(Budget.class))).thenReturn(testBudget);
 
         mockMvc.perform(post("/api/budgets")
@@ -96,10 +144,24 @@ public class BudgetControllerTest {
                 .andExpect(jsonPath("$.name").value(testBudget.getName()));
     }
 
+    @Test
+    @WithMockUser
+    public void testGetUtilisation() throws Exception {
+        when(budgetRepository.findUtilisationByUserId(any())).thenReturn(List.of(new BudgetUtilisationDto(
+                1L, "Monthly Budget", "General", new BigDecimal("1000.00"), LocalDate.now(), null,
+                new BigDecimal("250.00"), new BigDecimal("750.00"), 4L)));
+
+        mockMvc.perform(get("/api/budgets/utilisation"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].spent").value(250.00))
+                .andExpect(jsonPath("$[0].remaining").value(750.00))
+                .andExpect(jsonPath("$[0].expenseCount").value(4));
+    }
+
     @Test
     @WithMockUser
     public void testGetBudget() throws Exception {
-        when(budgetRepository.findById(1L)).thenReturn(Optional.of(testBudget));
+        when(budgetRepository.findDtoByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testBudgetDto));
 
         mockMvc.perform(get("/api/budgets/1"))
                 .andExpect(status().isOk())
@@ -109,7 +171,7 @@ public class BudgetControllerTest {
     @Test
     @WithMockUser
     public void testGetBudgetNotFound() throws Exception {
-        when(budgetRepository.findById(1L)).thenReturn(Optional.empty());
+        when(budgetRepository.findDtoByIdAndUserId(eq(1L), any())).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/api/budgets/1"))
                 .andExpect(status().isNotFound());
@@ -118,7 +180,7 @@ public class BudgetControllerTest {
     @Test
     @WithMockUser
     public void testUpdateBudget() throws Exception {
-        when(budgetRepository.findById(1L)).thenReturn(Optional.of(testBudget));
+        when(budgetRepository.findByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testBudget));
         when(budgetRepository.save(any(Budget.class))).thenReturn(testBudget);
 
         mockMvc.perform(put("/api/budgets/1")
@@ -131,7 +193,7 @@ public class BudgetControllerTest {
     @Test
     @WithMockUser
     public void testDeleteBudget() throws Exception {
-        when(budgetRepository.findById(1L)).thenReturn(Optional.of(testBudget));
+        when(budgetRepository.deleteByIdAndUserId(eq(1L), any())).thenReturn(1);
 
         mockMvc.perform(delete("/api/budgets/1"))
                 .andExpect(status().isOk());
@@ -140,7 +202,7 @@ public class BudgetControllerTest {
     @Test
     @WithMockUser
     public void testUpdateBudgetNotFound() throws Exception {
-        when(budgetRepository.findById(1L)).thenReturn(Optional.empty());
+        when(budgetRepository.findByIdAndUserId(eq(1L), any())).thenReturn(Optional.empty());
 
         mockMvc.perform(put("/api/budgets/1")
                 .contentType(MediaType.APPLICATION_JSON)
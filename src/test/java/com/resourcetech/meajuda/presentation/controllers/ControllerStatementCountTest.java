@@ -0,0 +1,301 @@
+package com.resourcetech.meajuda.presentation.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resourcetech.meajuda.application.dtos.BudgetDto;
+import com.resourcetech.meajuda.application.dtos.ExpenseDto;
+import com.resourcetech.meajuda.application.dtos.FinancialGoalDto;
+import com.resourcetech.meajuda.domain.entities.CollectionVersion;
+import com.resourcetech.meajuda.domain.entities.Budget;
+import com.resourcetech.meajuda.domain.entities.Expense;
+import com.resourcetech.meajuda.domain.entities.FinancialGoal;
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import com.resourcetech.meajuda.domain.repositories.CollectionVersionRepository;
+import com.resourcetech.meajuda.domain.repositories.ExpenseRepository;
+import com.resourcetech.meajuda.domain.repositories.FinancialGoalRepository;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.alerts.dispatcher-enabled=false"
+})
+@AutoConfigureMockMvc
+public class ControllerStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private FinancialGoalRepository goalRepository;
+
+    @Autowired
+    private CollectionVersionRepository collectionVersionRepository;
+
+    private Statistics statistics;
+    private UserPrincipal principal;
+    private User testUser;
+    private Budget testBudget;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        testUser = new User();
+        testUser.setName("Statement User");
+        testUser.setEmail("statements-" + UUID.randomUUID() + "@example.com");
+        testUser = userRepository.save(testUser);
+        principal = UserPrincipal.create(testUser);
+        collectionVersionRepository.save(new CollectionVersion(testUser.getId(), 0, 0, 0, 0));
+
+        testBudget = new Budget();
+        testBudget.setName("Monthly Budget");
+        testBudget.setAmount(new BigDecimal("1000.00"));
+        testBudget.setCategory("Food");
+        testBudget.setStartDate(LocalDate.now());
+        testBudget.setUser(testUser);
+        testBudget = budgetRepository.save(testBudget);
+    }
+
+    private long statementsFor(MockHttpServletRequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request.with(user(principal)))
+                .andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Statements for a read that must not lazily initialise any proxy or collection, which is
+     * how an N+1 pattern would show up.
+     */
+    private long readStatementsFor(MockHttpServletRequestBuilder request) throws Exception {
+        long statements = statementsFor(request);
+        assertEquals(0, statistics.getEntityFetchCount(), "lazy entity fetches");
+        assertEquals(0, statistics.getCollectionFetchCount(), "lazy collection fetches");
+        return statements;
+    }
+
+    private List<Long> readStatements() throws Exception {
+        String from = LocalDateTime.now().minusDays(1).toString();
+        String to = LocalDateTime.now().plusDays(1).toString();
+        return List.of(
+                readStatementsFor(get("/api/expenses")),
+                readStatementsFor(get("/api/expenses/by-category").param("category", "Food")),
+                readStatementsFor(get("/api/expenses/by-date-range").param("startDate", from).param("endDate", to)),
+                readStatementsFor(get("/api/budgets")),
+                readStatementsFor(get("/api/budgets/utilisation")),
+                readStatementsFor(get("/api/goals")),
+                readStatementsFor(get("/api/sync")));
+    }
+
+    private void seed(int count) {
+        for (int i = 0; i < count; i++) {
+            var budget = new Budget();
+            budget.setName("Budget " + i);
+            budget.setAmount(new BigDecimal("100.00"));
+            budget.setCategory("Food");
+            budget.setStartDate(LocalDate.now());
+            budget.setUser(testUser);
+            budget.setChangeSeq(1);
+            budget = budgetRepository.save(budget);
+
+            var expense = new Expense();
+            expense.setDescription("Expense " + i);
+            expense.setAmount(new BigDecimal("12.50"));
+            expense.setExpenseDate(LocalDateTime.now());
+            expense.setCategory("Food");
+            expense.setUser(testUser);
+            expense.setBudget(budget);
+            expense.setChangeSeq(1);
+            expenseRepository.save(expense);
+
+            var goal = new FinancialGoal();
+            goal.setName("Goal " + i);
+            goal.setDescription("Seeded goal " + i);
+            goal.setTargetAmount(new BigDecimal("500.00"));
+            goal.setTargetDate(LocalDate.now().plusYears(1));
+            goal.setUser(testUser);
+            goal.setChangeSeq(1);
+            goalRepository.save(goal);
+        }
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        return request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+    }
+
+    private ExpenseDto expenseDto(Long budgetId) {
+        var dto = new ExpenseDto();
+        dto.setDescription("Lunch");
+        dto.setAmount(new BigDecimal("12.50"));
+        dto.setExpenseDate(LocalDateTime.now());
+        dto.setCategory("Food");
+        dto.setBudgetId(budgetId);
+        return dto;
+    }
+
+    @Test
+    public void testCreateExpenseIsVersionBumpInsertAndRollupUpdate() throws Exception {
+        // The first insert may hit the sequence and creates the rollup bucket; later ones only bump it.
+        statementsFor(json(post("/api/expenses"), expenseDto(null)));
+
+        assertEquals(4, statementsFor(json(post("/api/expenses"), expenseDto(null))));
+    }
+
+    @Test
+    public void testCreateExpenseInBudgetAddsBudgetCreditAndOutboxRow() throws Exception {
+        statementsFor(json(post("/api/expenses"), expenseDto(testBudget.getId())));
+
+        assertEquals(6, statementsFor(json(post("/api/expenses"), expenseDto(testBudget.getId()))));
+    }
+
+    @Test
+    public void testUpdateExpenseIsSelectUpdateAndVersionBump() throws Exception {
+        var expense = new Expense();
+        expense.setDescription("Lunch");
+        expense.setAmount(new BigDecimal("12.50"));
+        expense.setExpenseDate(LocalDateTime.now());
+        expense.setCategory("Food");
+        expense.setUser(testUser);
+        expense.setBudget(testBudget);
+        expense = expenseRepository.save(expense);
+
+        var dto = expenseDto(testBudget.getId());
+        dto.setDescription("Team lunch");
+
+        assertEquals(4, statementsFor(json(put("/api/expenses/" + expense.getId()), dto)));
+    }
+
+    @Test
+    public void testReadExpensesIsVersionLookupAndProjectionSelect() throws Exception {
+        var expense = new Expense();
+        expense.setDescription("Lunch");
+        expense.setAmount(new BigDecimal("12.50"));
+        expense.setExpenseDate(LocalDateTime.now());
+        expense.setCategory("Food");
+        expense.setUser(testUser);
+        expense.setBudget(testBudget);
+        expense = expenseRepository.save(expense);
+
+        assertEquals(2, statementsFor(get("/api/expenses/" + expense.getId())));
+        assertEquals(2, statementsFor(get("/api/expenses")));
+        assertEquals(2, statementsFor(get("/api/budgets")));
+    }
+
+    @Test
+    public void testReadStatementsDoNotGrowWithRows() throws Exception {
+        collectionVersionRepository.save(new CollectionVersion(testUser.getId(), 0, 0, 0, 1));
+        seed(1);
+        List<Long> baseline = readStatements();
+
+        seed(10);
+
+        assertEquals(baseline, readStatements());
+    }
+
+    @Test
+    public void testUtilisationIsOneGroupedQueryWithinBudgetDates() throws Exception {
+        for (LocalDateTime date : List.of(LocalDateTime.now(), LocalDateTime.now().minusDays(3))) {
+            var expense = new Expense();
+            expense.setDescription("Lunch");
+            expense.setAmount(new BigDecimal("12.50"));
+            expense.setExpenseDate(date);
+            expense.setCategory("Food");
+            expense.setUser(testUser);
+            expense.setBudget(testBudget);
+            expenseRepository.save(expense);
+        }
+
+        statistics.clear();
+        mockMvc.perform(get("/api/budgets/utilisation").with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].spent").value(12.50))
+                .andExpect(jsonPath("$[0].remaining").value(987.50))
+                .andExpect(jsonPath("$[0].expenseCount").value(1));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testCreateAndUpdateBudget() throws Exception {
+        var dto = new BudgetDto();
+        dto.setName("Groceries");
+        dto.setAmount(new BigDecimal("400.00"));
+        dto.setCategory("Food");
+        dto.setStartDate(LocalDate.now());
+
+        assertEquals(3, statementsFor(json(post("/api/budgets"), dto)));
+        assertEquals(4, statementsFor(json(put("/api/budgets/" + testBudget.getId()), dto)));
+    }
+
+    @Test
+    public void testCreateAndUpdateGoal() throws Exception {
+        var goal = new FinancialGoal();
+        goal.setName("Emergency fund");
+        goal.setDescription("Six months of expenses");
+        goal.setTargetAmount(new BigDecimal("6000.00"));
+        goal.setTargetDate(LocalDate.now().plusYears(1));
+        goal.setUser(testUser);
+        goal = goalRepository.save(goal);
+
+        var dto = new FinancialGoalDto();
+        dto.setName("Emergency fund");
+        dto.setDescription("Nine months of expenses");
+        dto.setTargetAmount(new BigDecimal("9000.00"));
+        dto.setTargetDate(LocalDate.now().plusYears(1));
+
+        assertEquals(3, statementsFor(json(post("/api/goals"), dto)));
+        assertEquals(4, statementsFor(json(put("/api/goals/" + goal.getId()), dto)));
+    }
+
+    @Test
+    public void testNotModifiedCollectionIsSingleVersionLookup() throws Exception {
+        String etag = mockMvc.perform(get("/api/budgets").with(user(principal)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        statistics.clear();
+        mockMvc.perform(get("/api/budgets").with(user(principal)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
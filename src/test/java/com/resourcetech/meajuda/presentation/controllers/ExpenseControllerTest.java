@@ -1,19 +1,38 @@
 package com.resourcetech.meajuda.presentation.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resourcetech.meajuda.application.dtos.BudgetExpenseSummaryDto;
+import com.resourcetech.meajuda.application.dtos.ExpenseCursor;
 import com.resourcetech.meajuda.application.dtos.ExpenseDto;
+import com.resourcetech.meajuda.application.dtos.ExpenseSummaryDto;
+import com.resourcetech.meajuda.application.dtos.MonthlyCategoryTotalDto;
+import com.resourcetech.meajuda.application.dtos.MonthlyExpenseSummaryDto;
+import com.resourcetech.meajuda.application.services.CollectionVersionService;
+import com.resourcetech.meajuda.application.services.ExpenseOutbox;
+import com.resourcetech.meajuda.application.services.ExpenseRollupService;
 import com.resourcetech.meajuda.domain.entities.Budget;
 import com.resourcetech.meajuda.domain.entities.Expense;
+import com.resourcetech.meajuda.domain.entities.SyncTombstone;
 import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
 import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import com.resourcetech.meajuda.domain.repositories.ExpenseMonthlyRollupRepository;
 import com.resourcetech.meajuda.domain.repositories.ExpenseRepository;
+import com.resourcetech.meajuda.domain.repositories.ExpenseView;
+import com.resourcetech.meajuda.domain.repositories.SyncTombstoneRepository;
 import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -21,10 +40,20 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -47,9 +76,25 @@ public class ExpenseControllerTest {
     @MockBean
     private BudgetRepository budgetRepository;
 
+    @MockBean
+    private ExpenseMonthlyRollupRepository rollupRepository;
+
+    @MockBean
+    private ExpenseRollupService expenseRollupService;
+
+    @MockBean
+    private CollectionVersionService collectionVersionService;
+
+    @MockBean
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @MockBean
+    private ExpenseOutbox expenseOutbox;
+
     private User testUser;
     private Budget testBudget;
     private Expense testExpense;
+    private ExpenseView testExpenseView;
     private ExpenseDto testExpenseDto;
 
     @BeforeEach
@@ -72,6 +117,8 @@ public class ExpenseControllerTest {
         testExpense.setCategory("Food");
         testExpense.setUser(testUser);
         testExpense.setBudget(testBudget);
+        testExpense.setBudgetId(testBudget.getId());
+        testExpenseView = new SpelAwareProxyProjectionFactory().createProjection(ExpenseView.class, testExpense);
 
         testExpenseDto = new ExpenseDto();
         testExpenseDto.setDescription("Test Expense");
@@ -81,21 +128,61 @@ public class ExpenseControllerTest {
         testExpenseDto.setBudgetId(1L);
     }
 
+    private Window<ExpenseView> singlePage(boolean hasNext) {
+        return Window.from(Arrays.asList(testExpenseView),
+                index -> ScrollPosition.forward(Map.of("expenseDate", testExpense.getExpenseDate(), "id", testExpense.getId())),
+                hasNext);
+    }
+
     @Test
     @WithMockUser
     public void testGetExpenses() throws Exception {
-        when(expenseRepository.findByUserId(any())).thenReturn(Arrays.asList(testExpense));
+        when(expenseRepository.findByUserIdOrderByExpenseDateDescIdDesc(any(), any(), any()))
+                .thenReturn(singlePage(false));
 
         mockMvc.perform(get("/api/expenses"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ExpenseController.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$[0].description").value(testExpense.getDescription()));
     }
 
+    @Test
+    @WithMockUser
+    public void testGetExpensesReturnsNextCursor() throws Exception {
+        when(expenseRepository.findByUserIdOrderByExpenseDateDescIdDesc(any(), any(), any()))
+                .thenReturn(singlePage(true));
+
+        mockMvc.perform(get("/api/expenses").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(ExpenseController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @WithMockUser
+    public void testGetExpensesWithCursorResumesAfterLastRow() throws Exception {
+        var position = ScrollPosition.forward(Map.of("expenseDate", testExpense.getExpenseDate(), "id", 1L));
+        when(expenseRepository.findByUserIdOrderByExpenseDateDescIdDesc(any(), eq(position), any()))
+                .thenReturn(Window.<ExpenseView>from(List.of(), index -> ScrollPosition.keyset()));
+
+        mockMvc.perform(get("/api/expenses").param("cursor", ExpenseCursor.encode(position)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @WithMockUser
+    public void testGetExpensesWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/expenses").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser
     public void testGetExpensesByDateRange() throws Exception {
-        when(expenseRepository.findByUserIdAndExpenseDateBetween(any(), any(), any()))
-                .thenReturn(Arrays.asList(testExpense));
+        when(expenseRepository.findByUserIdAndExpenseDateBetweenOrderByExpenseDateDescIdDesc(
+                any(), any(), any(), any(), any()))
+                .thenReturn(singlePage(false));
 
         mockMvc.perform(get("/api/expenses/by-date-range")
                 .param("startDate", LocalDateTime.now().minusDays(7).toString())
@@ -107,8 +194,8 @@ public class ExpenseControllerTest {
     @Test
     @WithMockUser
     public void testGetExpensesByCategory() throws Exception {
-        when(expenseRepository.findByUserIdAndCategory(any(), any()))
-                .thenReturn(Arrays.asList(testExpense));
+        when(expenseRepository.findByUserIdAndCategoryOrderByExpenseDateDescIdDesc(any(), any(), any(), any()))
+                .thenReturn(singlePage(false));
 
         mockMvc.perform(get("/api/expenses/by-category")
                 .param("category", "Food"))
@@ -116,11 +203,79 @@ public class ExpenseControllerTest {
                 .andExpect(jsonPath("$[0].description").value(testExpense.getDescription()));
     }
 
+    @Test
+    @WithMockUser
+    public void testGetSummaryByCategory() throws Exception {
+        when(expenseRepository.summarizeByCategory(any(), any(), any()))
+                .thenReturn(List.of(new ExpenseSummaryDto("Food", new BigDecimal("120.50"), 3L)));
+
+        mockMvc.perform(get("/api/expenses/summary/by-category")
+                .param("startDate", LocalDateTime.now().minusMonths(1).toString())
+                .param("endDate", LocalDateTime.now().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].key").value("Food"))
+                .andExpect(jsonPath("$[0].total").value(120.50))
+                .andExpect(jsonPath("$[0].count").value(3));
+    }
+
+    @Test
+    @WithMockUser
+    public void testGetSummaryByMonth() throws Exception {
+        when(expenseRepository.summarizeByMonth(any(), any(), any()))
+                .thenReturn(List.of(new MonthlyExpenseSummaryDto(2024, 5, new BigDecimal("300.00"), 7L)));
+
+        mockMvc.perform(get("/api/expenses/summary/by-month")
+                .param("startDate", LocalDateTime.now().minusYears(1).toString())
+                .param("endDate", LocalDateTime.now().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].year").value(2024))
+                .andExpect(jsonPath("$[0].month").value(5))
+                .andExpect(jsonPath("$[0].count").value(7));
+    }
+
+    @Test
+    @WithMockUser
+    public void testGetMonthlyTrend() throws Exception {
+        when(rollupRepository.findTrend(any(), eq("2023-01"), eq("2024-12")))
+                .thenReturn(List.of(new MonthlyCategoryTotalDto("2024-05", "Food", new BigDecimal("300.00"), 7L)));
+
+        mockMvc.perform(get("/api/expenses/summary/trend")
+                .param("fromMonth", "2023-01")
+                .param("toMonth", "2024-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].yearMonth").value("2024-05"))
+                .andExpect(jsonPath("$[0].category").value("Food"))
+                .andExpect(jsonPath("$[0].count").value(7));
+    }
+
+    @Test
+    public void testSummaryByBudgetEtagChangesWhenBudgetsChange() throws Exception {
+        var principal = UserPrincipal.create(testUser);
+        when(collectionVersionService.currentVersions(1L, VersionedCollection.EXPENSES, VersionedCollection.BUDGETS))
+                .thenReturn(new long[] {3L, 4L}, new long[] {3L, 5L});
+        when(expenseRepository.summarizeByBudget(eq(1L), any(), any()))
+                .thenReturn(List.of(new BudgetExpenseSummaryDto(1L, "Renamed Budget", new BigDecimal("50.00"), 1L)));
+
+        String etag = mockMvc.perform(get("/api/expenses/summary/by-budget").with(user(principal))
+                        .param("startDate", "2024-05-01T00:00:00")
+                        .param("endDate", "2024-05-31T23:59:59"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/expenses/summary/by-budget").with(user(principal))
+                        .param("startDate", "2024-05-01T00:00:00")
+                        .param("endDate", "2024-05-31T23:59:59")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].budgetName").value("Renamed Budget"));
+    }
+
     @Test
     @WithMockUser
     public void testCreateExpense() throws Exception {
-        when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
-        when(budgetRepository.findById(any())).thenReturn(Optional.of(testBudget));
+        when(userRepository.getReferenceById(any())).thenReturn(testUser);
+        when(budgetRepository.getReferenceById(any())).thenReturn(testBudget);
+        when(budgetRepository.addToCurrentSpent(any(), any(), any(), anyLong())).thenReturn(1);
         when(expenseRepository.save(any(Expense.class))).thenReturn(testExpense);
 
         mockMvc.perform(post("/api/expenses")
@@ -128,24 +283,117 @@ public class ExpenseControllerTest {
                 .content(objectMapper.writeValueAsString(testExpenseDto)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.description").value(testExpense.getDescription()));
+
+        verify(budgetRepository).addToCurrentSpent(eq(1L), any(), eq(new BigDecimal("50.00")), anyLong());
+        verify(expenseRollupService).add(any(), eq(testExpense.getExpenseDate()), eq("Food"), eq(new BigDecimal("50.00")));
+        verify(expenseOutbox).record(testExpense);
+    }
+
+    @Test
+    @WithMockUser
+    public void testBulkImportJsonSkipsInvalidRows() throws Exception {
+        testExpenseDto.setBudgetId(null);
+        var invalid = new ExpenseDto();
+        invalid.setDescription("Invalid");
+        invalid.setAmount(new BigDecimal("-1.00"));
+        invalid.setExpenseDate(LocalDateTime.now());
+        invalid.setCategory("Food");
+
+        mockMvc.perform(post("/api/expenses/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(testExpenseDto, invalid))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0]").value("Row 2: Amount must be positive"))
+                .andExpect(jsonPath("$.complete").value(true))
+                .andExpect(jsonPath("$.committedThroughRow").value(2));
+
+        verify(expenseRepository).saveAll(any());
+    }
+
+    @Test
+    @WithMockUser
+    public void testBulkImportReportsProgressWhenBatchFails() throws Exception {
+        testExpenseDto.setBudgetId(null);
+        when(expenseRepository.saveAll(any())).thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        mockMvc.perform(post("/api/expenses/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(testExpenseDto, testExpenseDto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(0))
+                .andExpect(jsonPath("$.complete").value(false))
+                .andExpect(jsonPath("$.committedThroughRow").value(0))
+                .andExpect(jsonPath("$.errors[0]").value("Rows 1-2: could not be saved, import stopped"));
+
+        verify(expenseOutbox, never()).recordAll(any());
+    }
+
+    @Test
+    @WithMockUser
+    public void testBulkImportJsonStopsAtMalformedInput() throws Exception {
+        testExpenseDto.setBudgetId(null);
+        String body = "[" + objectMapper.writeValueAsString(testExpenseDto) + " oops "
+                + objectMapper.writeValueAsString(testExpenseDto) + "]";
+
+        mockMvc.perform(post("/api/expenses/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0]").value(startsWith("Row 2: ")));
+
+        verify(expenseRepository).saveAll(any());
+    }
+
+    @Test
+    @WithMockUser
+    public void testBulkImportJsonRejectsMalformedBody() throws Exception {
+        mockMvc.perform(post("/api/expenses/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("oops"))
+                .andExpect(status().isBadRequest());
+
+        verify(expenseRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @WithMockUser
+    public void testBulkImportCsv() throws Exception {
+        String csv = """
+                description,amount,expenseDate,category,paymentMethod
+                Coffee,3.50,2024-05-01,Food,card
+                "Groceries, weekly",82.10,2024-05-02T10:15:00,Food,
+                Broken,abc,2024-05-03,Food,cash
+                """;
+
+        mockMvc.perform(post("/api/expenses/bulk")
+                .contentType(ExpenseController.CSV_VALUE)
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(1));
     }
 
     @Test
     @WithMockUser
     public void testGetExpense() throws Exception {
-        when(expenseRepository.findById(1L)).thenReturn(Optional.of(testExpense));
+        when(expenseRepository.findViewByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpenseView));
 
         mockMvc.perform(get("/api/expenses/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.description").value(testExpense.getDescription()));
+                .andExpect(jsonPath("$.description").value(testExpense.getDescription()))
+                .andExpect(jsonPath("$.budgetId").value(1));
     }
 
     @Test
     @WithMockUser
     public void testUpdateExpense() throws Exception {
-        when(expenseRepository.findById(1L)).thenReturn(Optional.of(testExpense));
-        when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
-        when(budgetRepository.findById(any())).thenReturn(Optional.of(testBudget));
+        when(expenseRepository.findViewByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpenseView));
+        when(expenseRepository.findByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpense));
+        when(budgetRepository.getReferenceById(any())).thenReturn(testBudget);
         when(expenseRepository.save(any(Expense.class))).thenReturn(testExpense);
 
         mockMvc.perform(put("/api/expenses/1")
@@ -153,21 +401,138 @@ public class ExpenseControllerTest {
                 .content(objectMapper.writeValueAsString(testExpenseDto)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.description").value(testExpense.getDescription()));
+
+        verify(budgetRepository, never()).addToCurrentSpent(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @WithMockUser
+    public void testUpdateExpenseMovesSpentToNewBudget() throws Exception {
+        var otherBudget = new Budget();
+        otherBudget.setId(2L);
+        otherBudget.setUser(testUser);
+
+        var movedExpense = new Expense();
+        movedExpense.setId(1L);
+        movedExpense.setDescription("Test Expense");
+        movedExpense.setAmount(new BigDecimal("80.00"));
+        movedExpense.setExpenseDate(testExpense.getExpenseDate());
+        movedExpense.setCategory("Food");
+        movedExpense.setUser(testUser);
+        movedExpense.setBudget(otherBudget);
+
+        testExpenseDto.setBudgetId(2L);
+        testExpenseDto.setAmount(new BigDecimal("80.00"));
+
+        when(expenseRepository.findViewByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpenseView));
+        when(expenseRepository.findByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpense));
+        when(budgetRepository.getReferenceById(2L)).thenReturn(otherBudget);
+        when(budgetRepository.addToCurrentSpent(any(), any(), any(), anyLong())).thenReturn(1);
+        when(expenseRepository.save(any(Expense.class))).thenReturn(movedExpense);
+
+        mockMvc.perform(put("/api/expenses/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testExpenseDto)))
+                .andExpect(status().isOk());
+
+        verify(budgetRepository).addToCurrentSpent(eq(1L), any(), eq(new BigDecimal("-50.00")), anyLong());
+        verify(budgetRepository).addToCurrentSpent(eq(2L), any(), eq(new BigDecimal("80.00")), anyLong());
+    }
+
+    @Test
+    @WithMockUser
+    public void testUpdateUnpostedOccurrenceCreditsNothing() throws Exception {
+        testExpense.setPosted(false);
+        testExpenseDto.setAmount(new BigDecimal("80.00"));
+        when(expenseRepository.findViewByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpenseView));
+        when(expenseRepository.findByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpense));
+        when(budgetRepository.getReferenceById(any())).thenReturn(testBudget);
+        when(expenseRepository.save(any(Expense.class))).thenReturn(testExpense);
+
+        mockMvc.perform(put("/api/expenses/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testExpenseDto)))
+                .andExpect(status().isOk());
+
+        verify(budgetRepository, never()).addToCurrentSpent(any(), any(), any(), anyLong());
+        verify(expenseRollupService, never()).move(any(), any(), any(), any(), any(), any(), any());
+        verify(expenseOutbox, never()).record(any());
+    }
+
+    @Test
+    @WithMockUser
+    public void testUpdateKeepsScheduleWhenRecurrenceIsUnchanged() throws Exception {
+        LocalDateTime next = testExpense.getExpenseDate().plusMonths(1);
+        testExpense.setRecurring(true);
+        testExpense.setRecurrencePeriod("MONTHLY");
+        testExpense.setNextOccurrenceDate(next);
+        testExpenseDto.setRecurring(true);
+        testExpenseDto.setRecurrencePeriod("MONTHLY");
+        testExpenseDto.setExpenseDate(testExpense.getExpenseDate());
+        testExpenseDto.setDescription("Renamed");
+        when(expenseRepository.findViewByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpenseView));
+        when(expenseRepository.findByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpense));
+        when(budgetRepository.getReferenceById(any())).thenReturn(testBudget);
+        when(expenseRepository.save(any(Expense.class))).thenReturn(testExpense);
+
+        mockMvc.perform(put("/api/expenses/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testExpenseDto)))
+                .andExpect(status().isOk());
+
+        assertEquals(next, testExpense.getNextOccurrenceDate());
+    }
+
+    @Test
+    @WithMockUser
+    public void testUpdateResetsScheduleWhenPeriodChanges() throws Exception {
+        testExpense.setRecurring(true);
+        testExpense.setRecurrencePeriod("MONTHLY");
+        testExpense.setNextOccurrenceDate(testExpense.getExpenseDate().plusMonths(1));
+        testExpenseDto.setRecurring(true);
+        testExpenseDto.setRecurrencePeriod("WEEKLY");
+        testExpenseDto.setExpenseDate(testExpense.getExpenseDate());
+        when(expenseRepository.findViewByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpenseView));
+        when(expenseRepository.findByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpense));
+        when(budgetRepository.getReferenceById(any())).thenReturn(testBudget);
+        when(expenseRepository.save(any(Expense.class))).thenReturn(testExpense);
+
+        mockMvc.perform(put("/api/expenses/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testExpenseDto)))
+                .andExpect(status().isOk());
+
+        assertNull(testExpense.getNextOccurrenceDate());
     }
 
     @Test
     @WithMockUser
     public void testDeleteExpense() throws Exception {
-        when(expenseRepository.findById(1L)).thenReturn(Optional.of(testExpense));
+        when(expenseRepository.findViewByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpenseView));
+        when(expenseRepository.findByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testExpense));
 
         mockMvc.perform(delete("/api/expenses/1"))
                 .andExpect(status().isOk());
+
+        verify(expenseRepository).delete(testExpense);
+        verify(syncTombstoneRepository).save(any(SyncTombstone.class));
+        verify(budgetRepository).addToCurrentSpent(eq(1L), any(), eq(new BigDecimal("-50.00")), anyLong());
+        verify(expenseRollupService).remove(any(), eq(testExpense.getExpenseDate()), eq("Food"), eq(new BigDecimal("50.00")));
+    }
+
+    @Test
+    @WithMockUser
+    public void testDeleteExpenseNotFound() throws Exception {
+        when(expenseRepository.findViewByIdAndUserId(eq(1L), any())).thenReturn(Optional.empty());
+
+        mockMvc.perform(delete("/api/expenses/1"))
+                .andExpect(status().isNotFound());
     }
 
     @Test
     @WithMockUser
     public void testExpenseNotFound() throws Exception {
-        when(expenseRepository.findById(1L)).thenReturn(Optional.empty());
+        when(expenseRepository.findViewByIdAndUserId(eq(1L), any())).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/api/expenses/1"))
                 .andExpect(status().isNotFound());
@@ -2,10 +2,12 @@ package com.resourcetech.meajuda.presentation.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resourcetech.meajuda.application.dtos.FinancialGoalDto;
+import com.resourcetech.meajuda.application.services.CollectionVersionService;
 import com.resourcetech.meajuda.domain.entities.FinancialGoal;
 import com.resourcetech.meajuda.domain.entities.GoalStatus;
 import com.resourcetech.meajuda.domain.entities.User;
 import com.resourcetech.meajuda.domain.repositories.FinancialGoalRepository;
+import com.resourcetech.meajuda.domain.repositories.SyncTombstoneRepository;
 import com.resourcetech.meajuda.domain.repositories.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import java.util.Arrays;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -43,6 +46,12 @@ public class FinancialGoalControllerTest {
     @MockBean
     private UserRepository userRepository;
 
+    @MockBean
+    private CollectionVersionService collectionVersionService;
+
+    @MockBean
+    private SyncTombstoneRepository syncTombstoneRepository;
+
     private User testUser;
     private FinancialGoal testGoal;
     private FinancialGoalDto testGoalDto;
@@ -76,7 +85,7 @@ public class FinancialGoalControllerTest {
     @Test
     @WithMockUser
     public void testGetGoals() throws Exception {
-        when(goalRepository.findByUserId(any())).thenReturn(Arrays.asList(testGoal));
+        when(goalRepository.findDtosByUserId(any())).thenReturn(Arrays.asList(testGoalDto));
 
         mockMvc.perform(get("/api/goals"))
                 .andExpect(status().isOk())
@@ -86,8 +95,8 @@ public class FinancialGoalControllerTest {
     @Test
     @WithMockUser
     public void testGetGoalsByStatus() throws Exception {
-        when(goalRepository.findByUserIdAndStatus(any(), any()))
-                .thenReturn(Arrays.asList(testGoal));
+        when(goalRepository.findDtosByUserIdAndStatus(any(), any()))
+                .thenReturn(Arrays.asList(testGoalDto));
 
         mockMvc.perform(get("/api/goals/by-status")
                 .param("status", "IN_PROGRESS"))
@@ -98,7 +107,7 @@ public class FinancialGoalControllerTest {
     @Test
     @WithMockUser
     public void testCreateGoal() throws Exception {
-        when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
+        when(userRepository.getReferenceById(any())).thenReturn(testUser);
         when(goalRepository.save(any(FinancialGoal.class))).thenReturn(testGoal);
 
         mockMvc.perform(post("/api/goals")
@@ -111,7 +120,7 @@ public class FinancialGoalControllerTest {
     @Test
     @WithMockUser
     public void testGetGoal() throws Exception {
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
+        when(goalRepository.findDtoByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testGoalDto));
 
         mockMvc.perform(get("/api/goals/1"))
                 .andExpect(status().isOk())
@@ -121,8 +130,7 @@ public class FinancialGoalControllerTest {
     @Test
     @WithMockUser
     public void testUpdateGoal() throws Exception {
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
-        when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
+        when(goalRepository.findByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testGoal));
         when(goalRepository.save(any(FinancialGoal.class))).thenReturn(testGoal);
 
         mockMvc.perform(put("/api/goals/1")
@@ -135,7 +143,7 @@ public class FinancialGoalControllerTest {
     @Test
     @WithMockUser
     public void testUpdateGoalStatus() throws Exception {
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
+        when(goalRepository.findByIdAndUserId(eq(1L), any())).thenReturn(Optional.of(testGoal));
         testGoal.setStatus(GoalStatus.COMPLETED);
         when(goalRepository.save(any(FinancialGoal.class))).thenReturn(testGoal);
 
@@ -148,7 +156,7 @@ public class FinancialGoalControllerTest {
     @Test
     @WithMockUser
     public void testDeleteGoal() throws Exception {
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
+        when(goalRepository.deleteByIdAndUserId(eq(1L), any())).thenReturn(1);
 
         mockMvc.perform(delete("/api/goals/1"))
                 .andExpect(status().isOk());
@@ -157,7 +165,7 @@ public class FinancialGoalControllerTest {
     @Test
     @WithMockUser
     public void testGoalNotFound() throws Exception {
-        when(goalRepository.findById(1L)).thenReturn(Optional.empty());
+        when(goalRepository.findDtoByIdAndUserId(eq(1L), any())).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/api/goals/1"))
                 .andExpect(status().isNotFound());
@@ -0,0 +1,103 @@
+package com.resourcetech.meajuda.presentation.controllers;
+
+import com.resourcetech.meajuda.domain.entities.CollectionVersion;
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.repositories.CollectionVersionRepository;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.alerts.dispatcher-enabled=false")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CollectionVersionRepository collectionVersionRepository;
+
+    private UserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        var testUser = new User();
+        testUser.setName("Metrics User");
+        testUser.setEmail("metrics-" + UUID.randomUUID() + "@example.com");
+        testUser = userRepository.save(testUser);
+        collectionVersionRepository.save(new CollectionVersion(testUser.getId(), 0, 0, 0, 0));
+        principal = UserPrincipal.create(testUser);
+    }
+
+    @Test
+    public void testPrometheusIsServedOnlyOnTheManagementPort() throws Exception {
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity(managementUrl("/actuator/prometheus"), String.class)
+                .getStatusCode());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity(managementUrl("/actuator/health"), String.class)
+                .getStatusCode());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testRequestsAreTimedPerControllerMethodAndRepositoryMethod() throws Exception {
+        mockMvc.perform(get("/api/budgets/utilisation").with(user(principal)))
+                .andExpect(status().isOk());
+
+        String metrics = scrape();
+        assertThat(metrics, containsString("handler=\"BudgetController#getUtilisation\""));
+        assertThat(metrics, containsString("method=\"findUtilisationByUserId\""));
+        assertThat(metrics, containsString("http_server_requests_seconds_bucket"));
+    }
+
+    @Test
+    public void testTokenRejectionsAreCountedByReason() throws Exception {
+        mockMvc.perform(get("/api/budgets").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token"))
+                .andExpect(status().isUnauthorized());
+
+        String metrics = scrape();
+        assertThat(metrics, containsString("auth_token_rejections_total{"));
+        assertThat(metrics, containsString("reason=\"malformed\""));
+    }
+
+    private String scrape() {
+        var response = restTemplate.getForEntity(managementUrl("/actuator/prometheus"), String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return response.getBody();
+    }
+
+    private String managementUrl(String path) {
+        return "http://localhost:" + managementPort + path;
+    }
+}
@@ -0,0 +1,137 @@
+package com.resourcetech.meajuda.presentation.controllers;
+
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import com.resourcetech.meajuda.domain.repositories.UserRepository;
+import com.resourcetech.meajuda.infrastructure.config.AppProperties;
+import com.resourcetech.meajuda.infrastructure.security.JwtTokenProvider;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.rate-limit.routes[0].pattern=/api/budgets/**",
+        "app.rate-limit.routes[0].capacity=2",
+        "app.rate-limit.routes[0].refill-per-second=0.01",
+        "server.forward-headers-strategy=framework"
+})
+@AutoConfigureMockMvc
+public class RateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @MockBean
+    private BudgetRepository budgetRepository;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findById(any())).thenAnswer(invocation -> {
+            var user = new User();
+            user.setId(invocation.getArgument(0));
+            user.setEmail("user" + user.getId() + "@example.com");
+            return Optional.of(user);
+        });
+    }
+
+    private static RequestPostProcessor fromIp(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    private String bearer(long userId) {
+        var principal = new UserPrincipal(userId, "user" + userId + "@example.com", null, List.of());
+        return "Bearer " + tokenProvider.generateToken(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, List.of()));
+    }
+
+    @Test
+    public void testAnonymousClientIsLimitedByIp() throws Exception {
+        mockMvc.perform(get("/api/budgets/utilisation").with(fromIp("203.0.113.7")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/budgets/utilisation").with(fromIp("203.0.113.7")))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/api/budgets/utilisation").with(fromIp("203.0.113.7")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        mockMvc.perform(get("/api/budgets/utilisation").with(fromIp("203.0.113.8")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testAnonymousClientBehindProxyIsLimitedByForwardedIp() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/budgets/utilisation").with(fromIp("10.0.0.2"))
+                            .header("X-Forwarded-For", "198.51.100.7"))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(get("/api/budgets/utilisation").with(fromIp("10.0.0.2"))
+                        .header("X-Forwarded-For", "198.51.100.7"))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/api/budgets/utilisation").with(fromIp("10.0.0.2"))
+                        .header("X-Forwarded-For", "198.51.100.8"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testZeroRefillIsRejectedAtBinding() {
+        var binder = new Binder(new MapConfigurationPropertySource(Map.of(
+                "app.rate-limit.default-quota.capacity", "10",
+                "app.rate-limit.default-quota.refill-per-second", "0")));
+
+        var ex = assertThrows(BindException.class,
+                () -> binder.bind("app", Bindable.ofInstance(new AppProperties())));
+        assertInstanceOf(IllegalArgumentException.class, ex.getRootCause());
+    }
+
+    @Test
+    public void testEachUserHasOwnBucket() throws Exception {
+        String first = bearer(101L);
+        String second = bearer(102L);
+
+        mockMvc.perform(get("/api/budgets/utilisation").header(HttpHeaders.AUTHORIZATION, first))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/budgets/utilisation").header(HttpHeaders.AUTHORIZATION, first))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/budgets/utilisation").header(HttpHeaders.AUTHORIZATION, first))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "100"));
+
+        mockMvc.perform(get("/api/budgets/utilisation").header(HttpHeaders.AUTHORIZATION, second))
+                .andExpect(status().isOk());
+    }
+}
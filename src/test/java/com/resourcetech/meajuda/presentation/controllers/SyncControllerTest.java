@@ -0,0 +1,169 @@
+package com.resourcetech.meajuda.presentation.controllers;
+
+import com.jayway.jsonpath.JsonPath;
+import com.resourcetech.meajuda.application.dtos.SyncCursor;
+import com.resourcetech.meajuda.application.services.CollectionVersionService;
+import com.resourcetech.meajuda.domain.entities.Expense;
+import com.resourcetech.meajuda.domain.entities.SyncTombstone;
+import com.resourcetech.meajuda.domain.entities.User;
+import com.resourcetech.meajuda.domain.entities.VersionedCollection;
+import com.resourcetech.meajuda.domain.repositories.BudgetRepository;
+import com.resourcetech.meajuda.domain.repositories.ExpenseRepository;
+import com.resourcetech.meajuda.domain.repositories.FinancialGoalRepository;
+import com.resourcetech.meajuda.domain.repositories.SyncTombstoneRepository;
+import com.resourcetech.meajuda.infrastructure.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class SyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExpenseRepository expenseRepository;
+
+    @MockBean
+    private BudgetRepository budgetRepository;
+
+    @MockBean
+    private FinancialGoalRepository goalRepository;
+
+    @MockBean
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @MockBean
+    private CollectionVersionService collectionVersionService;
+
+    private UserPrincipal principal;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setName("Test User");
+        testUser.setEmail("test@example.com");
+        principal = UserPrincipal.create(testUser);
+    }
+
+    private Expense expense(long id, long changeSeq) {
+        var expense = new Expense();
+        expense.setId(id);
+        expense.setDescription("Expense " + id);
+        expense.setAmount(new BigDecimal("10.00"));
+        expense.setExpenseDate(LocalDateTime.now());
+        expense.setCategory("Food");
+        expense.setUser(testUser);
+        expense.setChangeSeq(changeSeq);
+        return expense;
+    }
+
+    @Test
+    public void testSyncReturnsChangesSinceCursor() throws Exception {
+        when(collectionVersionService.currentChangeSeq(1L)).thenReturn(12L);
+        when(expenseRepository.findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(
+                eq(1L), eq(11L), eq(12L), any())).thenReturn(List.of(expense(5L, 11L)));
+        when(syncTombstoneRepository.findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(
+                eq(1L), eq(11L), eq(12L), any()))
+                .thenReturn(List.of(new SyncTombstone(1L, VersionedCollection.GOALS, 3L, 12L)));
+
+        mockMvc.perform(get("/api/sync")
+                .param("since", new SyncCursor(10L, Instant.now()).encode())
+                .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.expenses[0].id").value(5))
+                .andExpect(jsonPath("$.budgets").isEmpty())
+                .andExpect(jsonPath("$.deleted[0].collection").value("GOALS"))
+                .andExpect(jsonPath("$.deleted[0].id").value(3))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    public void testSyncCutsOverflowingPageAtSequenceBoundary() throws Exception {
+        when(collectionVersionService.currentChangeSeq(1L)).thenReturn(9L);
+        when(expenseRepository.findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(
+                eq(1L), eq(0L), eq(9L), any()))
+                .thenReturn(List.of(expense(1L, 2L), expense(2L, 3L), expense(3L, 3L)));
+
+        var result = mockMvc.perform(get("/api/sync")
+                .param("limit", "2")
+                .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.expenses.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn();
+
+        String nextCursor = JsonPath.read(result.getResponse().getContentAsString(), "$.nextCursor");
+        assertEquals(2L, SyncCursor.decode(nextCursor).changeSeq());
+    }
+
+    @Test
+    public void testCursorKeepsIssueTimeUntilCaughtUp() throws Exception {
+        Instant catchUpStarted = Instant.now().minus(30, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        when(collectionVersionService.currentChangeSeq(1L)).thenReturn(9L);
+        when(expenseRepository.findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(
+                eq(1L), eq(2L), eq(9L), any()))
+                .thenReturn(List.of(expense(1L, 2L), expense(2L, 3L), expense(3L, 4L)));
+        when(expenseRepository.findByUserIdAndChangeSeqBetweenOrderByChangeSeqAscIdAsc(
+                eq(1L), eq(4L), eq(9L), any()))
+                .thenReturn(List.of(expense(3L, 4L)));
+
+        var partial = mockMvc.perform(get("/api/sync")
+                .param("since", new SyncCursor(1L, catchUpStarted).encode())
+                .param("limit", "2")
+                .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn();
+        SyncCursor next = SyncCursor.decode(JsonPath.read(partial.getResponse().getContentAsString(), "$.nextCursor"));
+        assertEquals(3L, next.changeSeq());
+        assertEquals(catchUpStarted, next.issuedAt());
+
+        var complete = mockMvc.perform(get("/api/sync")
+                .param("since", next.encode())
+                .param("limit", "2")
+                .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn();
+        SyncCursor caughtUp = SyncCursor.decode(JsonPath.read(complete.getResponse().getContentAsString(), "$.nextCursor"));
+        assertTrue(caughtUp.issuedAt().isAfter(catchUpStarted));
+    }
+
+    @Test
+    public void testInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/sync").param("since", "not a cursor").with(user(principal)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testExpiredCursor() throws Exception {
+        String expired = new SyncCursor(10L, Instant.now().minus(365, ChronoUnit.DAYS)).encode();
+
+        mockMvc.perform(get("/api/sync").param("since", expired).with(user(principal)))
+                .andExpect(status().isGone());
+    }
+}